@@ -0,0 +1,122 @@
+package game.bench;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import game.entity.monster.Monster;
+import game.world.MonsterStore;
+
+/**
+ * 화살 관통 기록 비교 (예전 HashSet<Monster> vs 지금 id 배열)
+ * - 화살 A 개가 몬스터 줄 위를 지나가며 "이미 맞혔나?" 를 묻는 루프만 잰다
+ *   (몬스터 하나와 OVERLAP 틱 동안 겹치고, STEP 틱마다 다음 몬스터가 새로 겹친다 → 같은 몬스터를 여러 번 묻는다)
+ * - 화살은 풀에서 재사용된다고 보고 매 호출 기록만 비우고 다시 쓴다 (HashSet 은 Node 할당이 계속 생긴다)
+ * - 화살 하나가 들고 있는 기록 크기 : HashSet 은 테이블 + 항목마다 Node, id 배열은 int 4 칸
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrowHitTrackingBenchmark {
+
+    private static final int ROW = 8;       // 화살마다 지나가는 몬스터 수
+    private static final int OVERLAP = 4;   // 몬스터 하나와 겹치는 틱 수 (몸 30px / 화살 틱당 ~8px)
+    private static final int STEP = 2;      // 다음 몬스터가 겹치기 시작하는 간격(틱)
+
+    @Param({ "64", "512" })
+    int arrows;
+
+    @Param({ "2", "4" })
+    int hitsAllowed;
+
+    private MonsterStore store;
+    private int[][] rows;         // 화살별 지나가는 몬스터 슬롯
+    private int[][] window;       // 틱별 겹치는 몬스터 (rows 안 번호)
+
+    private List<Set<Monster>> hitSets;
+    private int[][] hitIds;
+    private int[] hitCounts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        store = new MonsterStore(4096);
+        Random rand = new Random(42);
+        for (int i = 0; i < 4096; i++) {
+            store.add(rand.nextInt(4000), rand.nextInt(4000), rand.nextInt(3));
+        }
+
+        rows = new int[arrows][ROW];
+        hitSets = new ArrayList<>(arrows);
+        hitIds = new int[arrows][4];
+        hitCounts = new int[arrows];
+        for (int a = 0; a < arrows; a++) {
+            for (int j = 0; j < ROW; j++) {
+                rows[a][j] = rand.nextInt(store.size());
+            }
+            hitSets.add(new HashSet<>());
+        }
+
+        int ticks = (ROW - 1) * STEP + OVERLAP;
+        window = new int[ticks][];
+        for (int t = 0; t < ticks; t++) {
+            int from = Math.max(0, (t - OVERLAP + STEP) / STEP);
+            int to = Math.min(ROW - 1, t / STEP);
+            window[t] = new int[to - from + 1];
+            for (int j = from; j <= to; j++) window[t][j - from] = j;
+        }
+    }
+
+    @Benchmark
+    public int hashSetOfViews() {
+        int total = 0;
+        for (int a = 0; a < arrows; a++) {
+            Set<Monster> hit = hitSets.get(a);
+            hit.clear();
+            int left = hitsAllowed;
+            for (int t = 0; t < window.length && left > 0; t++) {
+                for (int k = 0; k < window[t].length && left > 0; k++) {
+                    Monster m = store.view(rows[a][window[t][k]]);
+                    if (hit.contains(m)) continue;
+                    hit.add(m);
+                    left--;
+                    total++;
+                }
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int idArray() {
+        int total = 0;
+        int[] ids = store.id;
+        for (int a = 0; a < arrows; a++) {
+            int[] hit = hitIds[a];
+            int count = 0;
+            int left = hitsAllowed;
+            for (int t = 0; t < window.length && left > 0; t++) {
+                for (int k = 0; k < window[t].length && left > 0; k++) {
+                    int id = ids[rows[a][window[t][k]]];
+                    boolean seen = false;
+                    for (int i = 0; i < count; i++) {
+                        if (hit[i] == id) { seen = true; break; }
+                    }
+                    if (seen) continue;
+                    hit[count++] = id;
+                    left--;
+                    total++;
+                }
+            }
+            hitCounts[a] = count;
+        }
+        return total;
+    }
+}
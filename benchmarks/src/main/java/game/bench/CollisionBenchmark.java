@@ -0,0 +1,82 @@
+package game.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import game.combat.Collision;
+import game.entity.monster.MonsterType;
+import game.util.IntList;
+import game.world.MonsterStore;
+import game.world.SpatialGrid;
+
+/**
+ * 충돌 판정 경로 한 틱 분량 (할당 확인용)
+ * - contact : 몬스터 전체 vs 플레이어 사각형 (World 접촉 판정과 같은 루프)
+ * - rect    : 플레이어 주변 사각형 질의 (검 / 화살)
+ * - radius  : 원 질의 (파이어볼 폭발)
+ * - 몬스터는 플레이어 주변 ±spread px 에 흩어 두고 위치는 그대로, 결과 목록은 재사용
+ * - 확인할 값은 gc.alloc.rate.norm : 셋 다 0 B/op 여야 한다 (Rectangle 이나 목록 객체를 만들면 바로 보인다)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+    private static final int PLAYER_W = 48, PLAYER_H = 48;
+    private static final int SWORD_RANGE = 120;
+    private static final int FIREBALL_RADIUS = 80;
+
+    @Param({ "1000", "10000" })
+    int monsters;
+
+    @Param({ "300", "1500" })
+    int spread;
+
+    private MonsterStore store;
+    private SpatialGrid grid;
+    private final IntList out = new IntList(1024);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        store = new MonsterStore(monsters);
+        Random rand = new Random(42);
+        for (int i = 0; i < monsters; i++) {
+            store.add(rand.nextInt(spread * 2) - spread, rand.nextInt(spread * 2) - spread,
+                    rand.nextInt(MonsterType.spawnableCount()));
+        }
+        grid = new SpatialGrid(store, 64);
+        grid.rebuild();
+    }
+
+    @Benchmark
+    public int contact() {
+        int[] xs = store.x, ys = store.y;
+        int damage = 0;
+        for (int i = 0; i < store.size(); i++) {
+            MonsterType t = MonsterType.get(store.type[i]);
+            if (Collision.intersects(0, 0, PLAYER_W, PLAYER_H, xs[i], ys[i], t.width, t.height)) {
+                damage = Math.max(damage, t.contactDamage);
+            }
+        }
+        return damage;
+    }
+
+    @Benchmark
+    public int rect() {
+        out.clear();
+        grid.queryRect(-SWORD_RANGE, -SWORD_RANGE, SWORD_RANGE * 2, SWORD_RANGE * 2, out);
+        return out.size();
+    }
+
+    @Benchmark
+    public int radius() {
+        out.clear();
+        grid.queryRadius(0, 0, FIREBALL_RADIUS, out);
+        return out.size();
+    }
+}
@@ -0,0 +1,64 @@
+package game.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import game.effects.DamageText;
+import game.util.Bag;
+import game.util.Pool;
+
+/**
+ * 데미지 텍스트 생성/소멸 반복 (한 번 호출 = 한 틱)
+ * - 틱마다 spawnPerTick 개를 띄우고, 살아 있는 것 전부 update, 끝난 것은 정리
+ * - pooled : 게임과 같은 Pool + Bag / allocating : 예전 방식 new + ArrayList.removeIf
+ * - -prof gc 의 gc.alloc.rate.norm 으로 틱당 할당량 비교
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DamageTextBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    int spawnPerTick;
+
+    private Pool<DamageText> pool;
+    private Bag<DamageText> texts;
+    private List<DamageText> list;
+    private int seq;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new Pool<>(DamageText::new, 64 * 1024);
+        texts = new Bag<>(1024);
+        list = new ArrayList<>(1024);
+    }
+
+    @Benchmark
+    public int pooled() {
+        for (int i = 0; i < spawnPerTick; i++) {
+            seq++;
+            texts.add(pool.acquire().init(seq & 1023, 300, 10 + (seq & 31)));
+        }
+        for (int i = 0; i < texts.size(); ) {
+            if (texts.get(i).update()) pool.release(texts.removeAt(i));
+            else i++;
+        }
+        return texts.size();
+    }
+
+    @Benchmark
+    public int allocating() {
+        for (int i = 0; i < spawnPerTick; i++) {
+            seq++;
+            list.add(new DamageText().init(seq & 1023, 300, 10 + (seq & 31)));
+        }
+        list.removeIf(DamageText::update);
+        return list.size();
+    }
+}
@@ -0,0 +1,78 @@
+package game.bench;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import game.effects.DamageText;
+
+/**
+ * 데미지 숫자 그리기 (한 번 호출 = 한 프레임에 숫자 전부)
+ * - atlas : DamageText.draw (글자 아틀라스 잘라 붙이기)
+ * - drawString : 예전 방식 (숫자마다 new Font + AlphaComposite 2개 + String.valueOf + drawString)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DamageTextRenderBenchmark {
+
+    @Param({ "50", "300" })
+    int texts;
+
+    private BufferedImage screen;
+    private Graphics2D g;
+    private int[] xs, ys, values;
+    private float[] alphas;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        screen = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        g = screen.createGraphics();
+
+        Random rand = new Random(42);
+        xs = new int[texts];
+        ys = new int[texts];
+        values = new int[texts];
+        alphas = new float[texts];
+        for (int i = 0; i < texts; i++) {
+            xs[i] = rand.nextInt(760);
+            ys[i] = 20 + rand.nextInt(570);
+            values[i] = 10 + rand.nextInt(200);
+            alphas[i] = 0.1f + rand.nextFloat() * 0.9f;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        g.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage atlas() {
+        for (int i = 0; i < texts; i++) {
+            DamageText.draw(g, xs[i], ys[i], values[i], alphas[i]);
+        }
+        return screen;
+    }
+
+    @Benchmark
+    public BufferedImage drawString() {
+        for (int i = 0; i < texts; i++) {
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alphas[i]));
+            g.setColor(Color.YELLOW);
+            g.setFont(new Font("맑은 고딕", Font.BOLD, 16));
+            g.drawString(String.valueOf(values[i]), xs[i], ys[i]);
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1f));
+        }
+        return screen;
+    }
+}
@@ -0,0 +1,81 @@
+package game.bench;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import game.util.Bag;
+
+/**
+ * 한 틱에 여러 개가 죽을 때 목록 정리 비용 비교 (ArrayList + Iterator.remove vs Bag swap-remove)
+ * - 살아 있는 수 N, 이번 틱에 죽은 수 K 를 바꿔 가며 한 틱 정리 시간을 잰다
+ * - ArrayList 는 K 에 비례해 뒤쪽을 당기므로 O(N·K), Bag 은 O(N + K)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityRemovalBenchmark {
+
+    static final class Entity {
+        boolean dead;
+    }
+
+    @Param({ "1000", "10000", "50000" })
+    int n;
+
+    @Param({ "10", "200", "2000" })
+    int k;
+
+    private Entity[] entities;
+    private List<Entity> list;
+    private Bag<Entity> bag;
+    private Random rand;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        entities = new Entity[n];
+        for (int i = 0; i < n; i++) entities[i] = new Entity();
+        list = new ArrayList<>(n);
+        bag = new Bag<>(n);
+        rand = new Random(42);
+    }
+
+    // 매 호출 같은 상태로 채우고 K 개를 죽인다 (정리 비용만 재기 위해 호출 단위 준비)
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        list.clear();
+        bag.clear();
+        for (int i = 0; i < n; i++) {
+            entities[i].dead = false;
+            list.add(entities[i]);
+            bag.add(entities[i]);
+        }
+        for (int i = 0; i < k; i++) {
+            entities[rand.nextInt(n)].dead = true;
+        }
+    }
+
+    @Benchmark
+    public int arrayListIteratorRemove() {
+        for (Iterator<Entity> it = list.iterator(); it.hasNext();) {
+            if (it.next().dead) it.remove();
+        }
+        return list.size();
+    }
+
+    @Benchmark
+    public int bagSwapRemove() {
+        for (int i = 0; i < bag.size(); ) {
+            if (bag.get(i).dead) bag.removeAt(i);
+            else i++;
+        }
+        return bag.size();
+    }
+}
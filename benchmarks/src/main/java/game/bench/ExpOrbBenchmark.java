@@ -0,0 +1,62 @@
+package game.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import game.entity.ExpOrb;
+import game.entity.player.Player;
+import game.sim.PlayerInput;
+
+/**
+ * 경험치 구슬 끌림/흡수 (한 번 호출 = 한 틱에 구슬 전부 update)
+ * - 구슬은 플레이어 주변 끌림 반경 안쪽 고리에 깔고, 흡수되면 바깥쪽에 다시 놓는다
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpOrbBenchmark {
+
+    @Param({ "100", "1000", "10000" })
+    int orbs;
+
+    private Player player;
+    private ExpOrb[] orbArray;
+    private int cx, cy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        player = new Player(PlayerInput.NONE, null);
+        cx = player.worldX + player.width / 2;
+        cy = player.worldY + player.height / 2;
+
+        orbArray = new ExpOrb[orbs];
+        for (int i = 0; i < orbs; i++) {
+            orbArray[i] = new ExpOrb();
+            place(i, 20 + (i % 60));
+        }
+    }
+
+    // i 번째 구슬을 플레이어 중심에서 dist 만큼 떨어진 곳에 (각도는 번호로 고정)
+    private void place(int i, int dist) {
+        double angle = i * 2.399963;   // 황금각 : 고르게 퍼지도록
+        orbArray[i].init(cx + (int) (Math.cos(angle) * dist),
+                         cy + (int) (Math.sin(angle) * dist), 10);
+    }
+
+    @Benchmark
+    public void updateAll(Blackhole bh) {
+        int picked = 0;
+        for (int i = 0; i < orbArray.length; i++) {
+            if (orbArray[i].update(player)) {
+                picked++;
+                place(i, 79);
+            }
+        }
+        bh.consume(picked);
+    }
+}
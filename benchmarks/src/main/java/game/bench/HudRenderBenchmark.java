@@ -0,0 +1,75 @@
+package game.bench;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import game.render.HudRenderer;
+import game.render.RenderSnapshot;
+
+/**
+ * HUD 그리기 (한 번 호출 = 한 프레임)
+ * - steady : 값은 그대로, 반짝이만 움직임 (대부분의 프레임) → 이미지 붙이기만
+ * - changing : 매 프레임 HP/킬/시간이 바뀜 → 바 레이어 + 글자 레이어 다시 그림 (최악)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class HudRenderBenchmark {
+
+    @Param({ "false", "true" })
+    boolean statusPanel;
+
+    private BufferedImage screen;
+    private Graphics2D g;
+    private HudRenderer hud;
+    private RenderSnapshot s;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        screen = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        g = screen.createGraphics();
+        hud = new HudRenderer();
+
+        s = new RenderSnapshot();
+        s.playerMaxHp = 120;
+        s.uiHpDisplay = 80;
+        s.uiExpDisplay = 0.4;
+        s.playerExp = 20;
+        s.playerExpToNext = 50;
+        s.playerLevel = 3;
+        s.killCount = 100;
+        s.elapsedSec = 90;
+        s.attackLevel = 1;
+        s.speedLevel = 2;
+        s.maxHpLevel = 1;
+        s.weaponStatus = "Sword Lv2, Bow Lv1";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        g.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage steady() {
+        s.uiTick++;
+        hud.draw(g, s, statusPanel);
+        return screen;
+    }
+
+    @Benchmark
+    public BufferedImage changing() {
+        s.uiTick++;
+        s.killCount++;
+        s.elapsedSec = s.uiTick / 60;
+        s.uiHpDisplay = 1 + (s.uiTick % s.playerMaxHp);
+        hud.draw(g, s, statusPanel);
+        return screen;
+    }
+}
@@ -0,0 +1,125 @@
+package game.bench;
+
+import java.awt.Image;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import game.entity.monster.MonsterType;
+import game.world.MonsterStore;
+
+/**
+ * 몬스터 한 마리가 차지하는 메모리 (바이트/마리)
+ * - 결과는 gc.alloc.rate.norm (OperationsPerInvocation = 마리 수 라서 그대로 바이트/마리)
+ * - objects    : 처음 구조 (몬스터마다 객체 + 자기 이미지/속도/크기/체력, ArrayList 에 보관)
+ * - statsStore : 종류 분리 전 MonsterStore (슬롯마다 int 속도 + int 종류)
+ * - typeStore  : 지금 MonsterStore (속도/크기/이미지는 MonsterType 한 벌, 슬롯은 byte 종류 번호만)
+ * - 저장소는 처음부터 마리 수만큼 잡아서 배열 늘리는 쓰레기는 빼고 잰다
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(MonsterFootprintBenchmark.MONSTERS)
+public class MonsterFootprintBenchmark {
+
+    static final int MONSTERS = 10000;
+
+    private final int[] xs = new int[MONSTERS];
+    private final int[] ys = new int[MONSTERS];
+    private final int[] types = new int[MONSTERS];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random rand = new Random(42);
+        for (int i = 0; i < MONSTERS; i++) {
+            xs[i] = rand.nextInt(4000);
+            ys[i] = rand.nextInt(4000);
+            types[i] = rand.nextInt(MonsterType.spawnableCount());
+        }
+    }
+
+    @Benchmark
+    public List<LegacyMonster> objects() {
+        Image[] sprites = new Image[MonsterType.count()];   // 헤드리스라 이미지는 비워 두고 참조 칸만
+        List<LegacyMonster> list = new ArrayList<>(MONSTERS);
+        for (int i = 0; i < MONSTERS; i++) {
+            list.add(new LegacyMonster(xs[i], ys[i], sprites[types[i]]));
+        }
+        return list;
+    }
+
+    @Benchmark
+    public StatsStore statsStore() {
+        StatsStore store = new StatsStore(MONSTERS);
+        for (int i = 0; i < MONSTERS; i++) {
+            store.add(xs[i], ys[i], types[i]);
+        }
+        return store;
+    }
+
+    @Benchmark
+    public MonsterStore typeStore() {
+        MonsterStore store = new MonsterStore(MONSTERS);
+        for (int i = 0; i < MONSTERS; i++) {
+            store.add(xs[i], ys[i], types[i]);
+        }
+        return store;
+    }
+
+    // ----------------------------------------------------
+    // 비교용 예전 구조
+    // ----------------------------------------------------
+
+    /** 처음 Monster 필드 그대로 */
+    public static final class LegacyMonster {
+        public int worldX, worldY;
+        public int speed = 1;
+        public int width = 30, height = 30;
+        public Image image;
+        private int maxHp = 50;
+        private int currentHp = maxHp;
+
+        LegacyMonster(int x, int y, Image image) {
+            this.worldX = x;
+            this.worldY = y;
+            this.image = image;
+        }
+    }
+
+    /** 종류 분리 전 MonsterStore 배열 구성 (추가만) */
+    public static final class StatsStore {
+        int[] x, y, hp, maxHp, speed, type, id, pendingDamage, pendingSince;
+        Object[] views;
+        int size;
+
+        StatsStore(int capacity) {
+            x = new int[capacity];
+            y = new int[capacity];
+            hp = new int[capacity];
+            maxHp = new int[capacity];
+            speed = new int[capacity];
+            type = new int[capacity];
+            id = new int[capacity];
+            pendingDamage = new int[capacity];
+            pendingSince = new int[capacity];
+            views = new Object[capacity];
+        }
+
+        void add(int wx, int wy, int t) {
+            int s = size++;
+            x[s] = wx;
+            y[s] = wy;
+            maxHp[s] = 50;
+            hp[s] = 50;
+            speed[s] = 1;
+            type[s] = t;
+            id[s] = s + 1;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package game.bench;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import game.entity.ExpOrb;
+import game.render.OrbSpriteCache;
+
+/**
+ * 경험치 구슬 그리기 (한 번 호출 = 한 프레임에 구슬 전부)
+ * - cached : ExpOrb.draw (미리 그린 펄스 프레임 drawImage)
+ * - direct : 예전 방식처럼 구슬마다 g.create + 안티앨리어싱 + 그라데이션 + 타원 3개
+ * - 800×600 화면 크기 이미지에 그려서 프레임당 시간(us) 비교
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class OrbRenderBenchmark {
+
+    @Param({ "100", "1000" })
+    int orbs;
+
+    private BufferedImage screen;
+    private Graphics2D g;
+    private int[] xs, ys, ticks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        screen = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        g = screen.createGraphics();
+
+        Random rand = new Random(42);
+        xs = new int[orbs];
+        ys = new int[orbs];
+        ticks = new int[orbs];
+        for (int i = 0; i < orbs; i++) {
+            xs[i] = rand.nextInt(800);
+            ys[i] = rand.nextInt(600);
+            ticks[i] = rand.nextInt(360);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        g.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage cached() {
+        for (int i = 0; i < orbs; i++) {
+            ExpOrb.draw(g, xs[i], ys[i], ticks[i]);
+        }
+        return screen;
+    }
+
+    @Benchmark
+    public BufferedImage direct() {
+        for (int i = 0; i < orbs; i++) {
+            Graphics2D g2 = (Graphics2D) g.create();
+            OrbSpriteCache.paint(g2, xs[i], ys[i], OrbSpriteCache.radiusAt(ticks[i]));
+            g2.dispose();
+        }
+        return screen;
+    }
+}
@@ -0,0 +1,72 @@
+package game.bench;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import game.combat.WeaponType;
+import game.replay.Replay;
+import game.replay.ReplayMain;
+import game.replay.ReplayPlayer;
+
+/**
+ * 녹화된 판의 늦은 구간을 그대로 다시 돌린다 (매번 같은 입력 → 같은 몬스터/투사체 상황)
+ * - 반복(iteration)마다 from 틱까지 빨리 감고 (측정 밖) window 틱을 한 번에 잰다
+ * - replay : 리플레이 파일 (-p replay=replays/replay-123.rep). 비우면 봇 판을 녹화해서 쓴다 (시드 7, 10분)
+ * - 재생이 녹화와 어긋나면 실패 (다른 상황을 재고 있는 것이므로)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReplayBenchmark {
+
+    @Param({ "" })
+    String replay;
+
+    @Param({ "BOW", "STAFF" })
+    WeaponType botWeapon;
+
+    @Param({ "18000" })
+    int from;
+
+    @Param({ "600" })
+    int window;
+
+    @Param({ "1" })
+    int threads;
+
+    private Replay recorded;
+    private ReplayPlayer player;
+
+    @Setup(Level.Trial)
+    public void load() throws IOException {
+        recorded = replay.isEmpty()
+                ? ReplayMain.recordBot(7L, 60 * 60 * 10, botWeapon)
+                : Replay.read(Path.of(replay));
+    }
+
+    @Setup(Level.Iteration)
+    public void fastForward() {
+        player = new ReplayPlayer(recorded, threads);
+        player.advanceTo(from);
+    }
+
+    @TearDown(Level.Iteration)
+    public void check() {
+        player.getWorld().setThreads(1);   // 풀 스레드 정리
+        if (player.getDivergedAt() >= 0) {
+            throw new IllegalStateException("리플레이가 tick " + player.getDivergedAt() + " 부터 어긋남");
+        }
+    }
+
+    @Benchmark
+    public long playWindow() {
+        player.advanceTo(from + window);
+        return player.getWorld().getTickCount();
+    }
+}
@@ -0,0 +1,60 @@
+package game.bench;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import game.world.CrowdSeparation;
+import game.world.MonsterStore;
+import game.world.SpatialGrid;
+
+/**
+ * 몬스터끼리 밀어내기 계산 한 틱 (CrowdSeparation.compute)
+ * - 몬스터 수에 따른 틱당 비용, 한 스레드 vs 구간 병렬
+ * - spacing : 몬스터 하나가 차지하는 한 변(px). 10 = 한데 뭉친 상태(이웃 상한에 걸림), 40 = 흩어진 상태
+ * - 위치는 그대로 두고 계산만 반복 (결과는 슬롯별 밀림 양)
+ * - BUDGET 을 넘으면 틱마다 한 조만 계산하므로 틱 번호를 넘겨 가며 돌린다
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeparationBenchmark {
+
+    @Param({ "1000", "10000", "50000" })
+    int monsters;
+
+    @Param({ "10", "40" })
+    int spacing;
+
+    @Param({ "false", "true" })
+    boolean parallel;
+
+    private CrowdSeparation separation;
+    private long tick;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MonsterStore store = new MonsterStore(monsters);
+        SpatialGrid grid = new SpatialGrid(store, 64);
+
+        Random rand = new Random(42);
+        int half = (int) (Math.sqrt(monsters) * spacing / 2);
+        for (int i = 0; i < monsters; i++) {
+            store.add(rand.nextInt(half * 2) - half, rand.nextInt(half * 2) - half, rand.nextInt(3));
+        }
+        grid.rebuild();
+
+        separation = new CrowdSeparation(store, grid);
+        separation.setPool(parallel ? ForkJoinPool.commonPool() : null);
+    }
+
+    @Benchmark
+    public int compute() {
+        return separation.compute(tick++);
+    }
+}
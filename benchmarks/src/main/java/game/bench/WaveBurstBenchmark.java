@@ -0,0 +1,61 @@
+package game.bench;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import game.world.FlowField;
+import game.world.MonsterStore;
+import game.world.PopulationManager;
+import game.world.WaveDirector;
+import game.world.WaveTable;
+
+/**
+ * 웨이브 한 번에 burst 마리를 만드는 데 걸리는 시간 (WaveDirector.update 한 틱)
+ * - shape : ring (겹겹이 빙 둘러) / elite (한 곳에 뭉쳐서) / scatter (주변 아무 데나)
+ * - 호출마다 빈 저장소 + 표 처음부터 → 첫 틱에 무리 전체가 나온다 (예산 = burst)
+ * - 저장소는 작게 시작해서 ensureCapacity 로 한 번에 늘리는 비용까지 포함
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaveBurstBenchmark {
+
+    @Param({ "1000", "5000", "20000" })
+    int burst;
+
+    @Param({ "ring", "elite", "scatter" })
+    String shape;
+
+    private WaveDirector director;
+    private MonsterStore store;
+    private final PopulationManager population = new PopulationManager();
+    private final FlowField flow = new FlowField(32, 128, 96);
+    private final Random rand = new Random(42);
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        WaveTable table = WaveTable.parse(new StringReader("0 - " + shape + " 60 " + burst + " 0 any 1 0\n"));
+        director = new WaveDirector(table);
+        director.setSpawnBudget(burst);
+        population.setBudget(Integer.MAX_VALUE);
+        flow.update(0, 0);
+    }
+
+    @Setup(Level.Invocation)
+    public void fresh() {
+        store = new MonsterStore();
+        director.reset();
+    }
+
+    @Benchmark
+    public int spawnBurst() {
+        return director.update(1, store, population, flow, rand, 0, 0);
+    }
+}
@@ -0,0 +1,82 @@
+package game.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import game.combat.Weapon;
+import game.combat.WeaponType;
+import game.entity.player.Player;
+import game.sim.PlayerInput;
+import game.sim.World;
+import game.world.MonsterStore;
+import game.world.SpatialGrid;
+
+/**
+ * 무기 한 번 공격 (Weapon.attack) 의 비용 : 무기 종류 × 강화 단계
+ * - 플레이어 주변에 몬스터를 깔고 HP 를 크게 줘서 계속 맞기만 하도록
+ * - 공격이 만든 화살/파이어볼/데미지 텍스트는 매번 풀에 돌려준다 (쌓이지 않게)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeaponAttackBenchmark {
+
+    private static final int TOUGH_HP = 1 << 30;
+
+    @Param({ "SWORD", "BOW", "STAFF" })
+    WeaponType weaponType;
+
+    @Param({ "1", "2", "3" })
+    int level;
+
+    @Param({ "1000" })
+    int monsters;
+
+    private World world;
+    private Player player;
+    private Weapon weapon;
+    private SpatialGrid grid;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = new World(PlayerInput.NONE, 42L);
+        player = world.getPlayer();
+        player.setGodMode(true);
+
+        for (int i = 0; i < level; i++) {
+            player.addOrUpgradeWeapon(weaponType);
+        }
+        weapon = player.getOwnedWeapons().get(0).weapon;
+
+        Random rand = new Random(42);
+        MonsterStore ms = world.getMonsters();
+        for (int i = 0; i < monsters; i++) {
+            int x = player.worldX + rand.nextInt(800) - 400;
+            int y = player.worldY + rand.nextInt(800) - 400;
+            ms.add(x, y, rand.nextInt(3));
+        }
+        grid = world.getMonsterGrid();
+    }
+
+    // 반복마다 HP 를 다시 채워서 죽은 몬스터 때문에 대상 수가 줄지 않도록
+    @Setup(Level.Iteration)
+    public void refill() {
+        MonsterStore ms = world.getMonsters();
+        for (int s = 0; s < ms.size(); s++) {
+            ms.hp[s] = TOUGH_HP;
+            ms.maxHp[s] = TOUGH_HP;
+        }
+        grid.rebuild();
+    }
+
+    @Benchmark
+    public void attack() {
+        weapon.attack(world, player, grid);
+        world.releaseTransients();
+    }
+}
@@ -0,0 +1,76 @@
+package game.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import game.combat.WeaponType;
+import game.sim.PlayerInput;
+import game.sim.World;
+import game.world.MonsterStore;
+
+/**
+ * 시뮬레이션 한 틱 (World.update) 을 창 없이 돌린다
+ * - 몬스터 이동/접촉 판정/스폰/격자 재구성/무기 공격/투사체/구슬까지 전부
+ * - 플레이어는 무적, 레벨업은 첫 번째 선택지로 바로 넘긴다 (멈추지 않도록)
+ * - 인구 관리는 끈다 (몬스터 수가 파라미터 그대로 유지되도록)
+ * - 반복(iteration)마다 새로 깔아서 몬스터가 한 점에 뭉친 상태만 재지 않도록 한다
+ * - threads : World.setThreads (기본 1, 병렬 비교는 -p threads=1,4 처럼 넘긴다)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldTickBenchmark {
+
+    @Param({ "100", "1000", "10000", "50000" })
+    int monsters;
+
+    @Param({ "SWORD", "BOW", "STAFF" })
+    WeaponType weaponType;
+
+    @Param({ "1" })
+    int threads;
+
+    private World world;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        world = new World(PlayerInput.NONE, 42L);
+        world.getPlayer().setGodMode(true);
+        world.startRun(weaponType);
+        world.setThreads(threads);
+
+        // 깔아 둔 몬스터 수 그대로 재야 하므로 인구 관리(상한/먼 몬스터 옮기기)는 끈다
+        world.getPopulation().setBudget(Integer.MAX_VALUE);
+        world.getPopulation().setDespawnDistance(0);
+
+        // 몬스터 밀도가 수와 상관없이 비슷하도록 정사각형 크기를 늘린다
+        Random rand = new Random(42);
+        int half = Math.max(600, (int) (Math.sqrt(monsters) * 20));
+        int px = world.getPlayer().worldX, py = world.getPlayer().worldY;
+        MonsterStore ms = world.getMonsters();
+        for (int i = 0; i < monsters; i++) {
+            ms.add(px + rand.nextInt(half * 2) - half,
+                   py + rand.nextInt(half * 2) - half,
+                   rand.nextInt(3));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        world.setThreads(1);   // 풀 스레드 정리
+    }
+
+    @Benchmark
+    public int tick() {
+        world.update();
+        if (world.isLevelUpPending()) {
+            world.applyLevelUpChoice(0);
+        }
+        return world.getMonsters().size();
+    }
+}
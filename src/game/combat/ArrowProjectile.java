@@ -1,93 +1,128 @@
 package game.combat;
 
 import java.awt.*;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
 
-import game.entity.monster.Monster;
-import game.entity.player.Player;
-import game.main.GamePanel;
+import game.util.IntList;
+import game.sim.World;
+import game.util.Poolable;
+import game.world.MonsterStore;
+import game.world.SpatialGrid;
 
-public class ArrowProjectile {
+public class ArrowProjectile implements Poolable {
 
     private double x, y;
     private double vx, vy;
-    private final double speed;         // ← 레벨에 따라 바뀌는 속도
+    private double speed;               // ← 레벨에 따라 바뀌는 속도
     private final double maxDistance = 500.0;
     private double traveled = 0.0;
 
-    private final int width = 14;
-    private final int height = 4;
+    private static final int width = 14;
+    private static final int height = 4;
+    private static final Color COLOR = new Color(200, 230, 255);
 
     private int damage;
     private int hitsLeft;
 
-    private final GamePanel gp;
+    private World world;
 
-    private Set<Monster> hitMonsters = new HashSet<>();
+    // 관통한 몬스터 id (맞힌 수 <= 관통 수라 hitsAllowed 칸이면 충분, 풀에서 재사용)
+    private int[] hitIds = new int[4];
+    private int hitCount = 0;
 
-    public ArrowProjectile(GamePanel gp,
-                           double startX, double startY,
-                           double dirX, double dirY,
-                           int damage,
-                           int hitsAllowed,
-                           double speed) {
-        this.gp = gp;
+    // 풀 전용 생성자 : 실제 값은 init 에서
+    public ArrowProjectile() {}
+
+    /** 풀에서 꺼낸 직후 발사 정보 채우기 */
+    public ArrowProjectile init(World world,
+                                double startX, double startY,
+                                double dirX, double dirY,
+                                int damage,
+                                int hitsAllowed,
+                                double speed) {
+        this.world = world;
         this.x = startX;
         this.y = startY;
         this.damage = damage;
         this.hitsLeft = hitsAllowed;
+        this.hitCount = 0;
+        if (hitIds.length < hitsAllowed) hitIds = new int[hitsAllowed];
         this.speed = speed;
+        this.traveled = 0.0;
 
         double len = Math.sqrt(dirX * dirX + dirY * dirY);
         if (len == 0) len = 1;
         vx = (dirX / len) * speed;
         vy = (dirY / len) * speed;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        world = null;
+        hitCount = 0;
+        hitsLeft = 0;
+        traveled = 0.0;
     }
 
     public boolean isAlive() {
         return hitsLeft > 0 && traveled < maxDistance;
     }
 
-    public void update(List<Monster> monsters, Player player) {
+    public double getX() { return x; }
+    public double getY() { return y; }
+
+    /**
+     * 1단계 : 이동 + 이번 위치에서 겹치는 몬스터 슬롯을 out 에 추가
+     * - 자기 필드만 바꾸고 격자/몬스터는 읽기만 → 화살끼리 동시에 불러도 된다
+     */
+    public void advance(SpatialGrid grid, IntList out) {
         if (!isAlive()) return;
 
         x += vx;
         y += vy;
         traveled += Math.sqrt(vx * vx + vy * vy);
 
-        Rectangle arrowRect = new Rectangle(
+        grid.queryRect(
                 (int) x - width / 2,
                 (int) y - height / 2,
-                width, height
+                width, height,
+                out
         );
+    }
 
-        for (Monster m : monsters) {
-            if (!m.isAlive()) continue;
-            if (hitMonsters.contains(m)) continue;
+    /**
+     * 2단계 : 후보 hits[from, to) 에 차례로 맞히기 (투사체 순서대로 한 스레드에서)
+     * - 앞 투사체에 죽은 몬스터, 이미 관통한 몬스터는 건너뛰고 관통 수가 다 되면 멈춤
+     */
+    public void resolveHits(MonsterStore ms, IntList hits, int from, int to) {
+        for (int i = from; i < to && hitsLeft > 0; i++) {
+            int s = hits.get(i);
+            if (!ms.isAlive(s)) continue;   // 같은 틱에 앞에서 죽은 몬스터
 
-            if (arrowRect.intersects(m.getBounds())) {
-                m.takeDamage(damage);
+            // 관통 기록은 틱을 넘어 유지되므로 슬롯 대신 id 로
+            int id = ms.id[s];
+            if (alreadyHit(id)) continue;
 
-                int screenX = m.worldX - player.worldX + player.screenX;
-                int screenY = m.worldY - player.worldY + player.screenY;
-                gp.addDamageText(screenX, screenY, damage);
+            ms.takeDamage(s, damage);
 
-                hitMonsters.add(m);
-                hitsLeft--;
-                if (hitsLeft <= 0) break;
-            }
+            world.addHitDamage(s, damage);
+
+            hitIds[hitCount++] = id;
+            hitsLeft--;
         }
     }
 
-    public void draw(Graphics2D g2, Player player) {
-        if (!isAlive()) return;
-
-        int screenX = (int) x - player.worldX + player.screenX;
-        int screenY = (int) y - player.worldY + player.screenY;
+    // 많아야 관통 수(2~4)만큼이라 그냥 훑는다
+    private boolean alreadyHit(int id) {
+        for (int i = 0; i < hitCount; i++) {
+            if (hitIds[i] == id) return true;
+        }
+        return false;
+    }
 
-        g2.setColor(new Color(200, 230, 255));
+    /** 렌더 스냅샷 값(화면 좌표 중심)으로 그리기 */
+    public static void draw(Graphics2D g2, int screenX, int screenY) {
+        g2.setColor(COLOR);
         g2.fillRoundRect(
                 screenX - width / 2,
                 screenY - height / 2,
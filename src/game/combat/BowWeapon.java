@@ -2,11 +2,12 @@ package game.combat;
 
 import java.awt.Color;
 import java.awt.Graphics;
-import java.util.List;
 
-import game.entity.monster.Monster;
 import game.entity.player.Player;
-import game.main.GamePanel;
+import game.render.RenderSnapshot;
+import game.sim.World;
+import game.world.MonsterStore;
+import game.world.SpatialGrid;
 
 public class BowWeapon implements Weapon {
 
@@ -25,7 +26,7 @@ public class BowWeapon implements Weapon {
     }
 
     @Override
-    public void attack(GamePanel gp, Player player, List<Monster> monsters) {
+    public void attack(World world, Player player, SpatialGrid grid) {
 
         // 1. 레벨 기반 스탯 계산
         int level = player.getWeaponUpgradeLevel(WeaponType.BOW);
@@ -43,35 +44,18 @@ public class BowWeapon implements Weapon {
         else                 speed = 16.0;
 
         // 2. 타겟 방향 (기본 중심 방향)
-        Monster target = null;
-        double bestDist2 = Double.MAX_VALUE;
-
         int px = player.worldX + player.width / 2;
         int py = player.worldY + player.height / 2;
 
-        for (Monster m : monsters) {
-            if (!m.isAlive()) continue;
-
-            int mx = m.worldX + m.width / 2;
-            int my = m.worldY + m.height / 2;
-
-            double dx = mx - px;
-            double dy = my - py;
-            double dist2 = dx * dx + dy * dy;
-
-            if (dist2 < bestDist2 &&
-                dist2 <= maxTargetDistance * maxTargetDistance) {
-                bestDist2 = dist2;
-                target = m;
-            }
-        }
+        int target = grid.nearest(px, py, maxTargetDistance);
 
-        if (target == null) {
+        if (target < 0) {
             return;
         }
 
-        int tx = target.worldX + target.width / 2;
-        int ty = target.worldY + target.height / 2;
+        MonsterStore ms = grid.getStore();
+        int tx = ms.centerX(target);
+        int ty = ms.centerY(target);
 
         double dirX = tx - px;
         double dirY = ty - py;
@@ -88,12 +72,12 @@ public class BowWeapon implements Weapon {
             double dx = Math.cos(angle);
             double dy = Math.sin(angle);
 
-            gp.spawnArrow(px, py, dx, dy, finalDamage, hitsAllowed, speed);
+            world.spawnArrow(px, py, dx, dy, finalDamage, hitsAllowed, speed);
         }
     }
 
     @Override
-    public void draw(Graphics g, Player player) {
+    public void draw(Graphics g, RenderSnapshot snap) {
         g.setColor(Color.WHITE);
     }
 }
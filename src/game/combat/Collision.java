@@ -0,0 +1,28 @@
+package game.combat;
+
+/**
+ * 객체 생성 없는 충돌 판정 (Rectangle 대신 int 좌표로 바로 계산)
+ * - 틱마다 수천 번 불리는 자리에서 Rectangle 을 만들지 않기 위한 용도
+ */
+public final class Collision {
+
+    private Collision() {}
+
+    /**
+     * 두 사각형(AABB)이 겹치는지 (java.awt.Rectangle.intersects 와 같은 규칙)
+     * - 가로/세로가 0 이하인 사각형은 어떤 것과도 겹치지 않는다
+     */
+    public static boolean intersects(int x1, int y1, int w1, int h1,
+                                     int x2, int y2, int w2, int h2) {
+        if (w1 <= 0 || h1 <= 0 || w2 <= 0 || h2 <= 0) return false;
+        return x1 < x2 + w2 && x2 < x1 + w1 &&
+               y1 < y2 + h2 && y2 < y1 + h1;
+    }
+
+    /** 점 (px, py)이 원(cx, cy, r) 안에 있는지 (경계 포함) */
+    public static boolean pointInCircle(long px, long py, long cx, long cy, long r) {
+        long dx = px - cx;
+        long dy = py - cy;
+        return dx * dx + dy * dy <= r * r;
+    }
+}
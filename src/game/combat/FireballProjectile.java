@@ -1,13 +1,14 @@
 package game.combat;
 
 import java.awt.*;
-import java.util.List;
 
-import game.entity.monster.Monster;
-import game.entity.player.Player;
-import game.main.GamePanel;
+import game.util.IntList;
+import game.sim.World;
+import game.util.Poolable;
+import game.world.MonsterStore;
+import game.world.SpatialGrid;
 
-public class FireballProjectile {
+public class FireballProjectile implements Poolable {
 
     private double x, y;
     private double vx, vy;
@@ -22,31 +23,69 @@ public class FireballProjectile {
     private boolean exploded = false;
     private boolean finished = false;
     private int explosionTimer = 0;
-    private final int EXPLOSION_DURATION = 12; // 폭발 이펙트 유지 프레임
+    private static final int EXPLOSION_DURATION = 12; // 폭발 이펙트 유지 프레임
+
+    // 그리기 색 (프레임마다 만들지 않게 미리, 폭발은 타이머 값마다 한 벌)
+    private static final Color BALL_FILL = new Color(255, 180, 0);
+    private static final Color BALL_EDGE = new Color(255, 80, 0);
+    private static final Color[] EXPLOSION_FILL = new Color[EXPLOSION_DURATION + 2];
+    private static final Color[] EXPLOSION_EDGE = new Color[EXPLOSION_DURATION + 2];
+    static {
+        for (int i = 0; i < EXPLOSION_FILL.length; i++) {
+            int alpha = explosionAlpha(i);
+            EXPLOSION_FILL[i] = new Color(255, 200, 50, Math.max(0, alpha));
+            EXPLOSION_EDGE[i] = new Color(255, 120, 0, Math.max(0, alpha + 40));
+        }
+    }
 
-    private final GamePanel gp;
+    private World world;
 
-    public FireballProjectile(GamePanel gp,
-                              double startX, double startY,
-                              double dirX, double dirY,
-                              int damage, int radius) {
-        this.gp = gp;
+    // 풀 전용 생성자 : 실제 값은 init 에서
+    public FireballProjectile() {}
+
+    /** 풀에서 꺼낸 직후 발사 정보 채우기 */
+    public FireballProjectile init(World world,
+                                   double startX, double startY,
+                                   double dirX, double dirY,
+                                   int damage, int radius) {
+        this.world = world;
         this.x = startX;
         this.y = startY;
         this.damage = damage;
         this.radius = radius;
+        this.traveled = 0.0;
+        this.exploded = false;
+        this.finished = false;
+        this.explosionTimer = 0;
 
         double len = Math.sqrt(dirX * dirX + dirY * dirY);
         if (len == 0) len = 1;
         vx = (dirX / len) * speed;
         vy = (dirY / len) * speed;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        world = null;
+        finished = true;
     }
 
     public boolean isAlive() {
         return !finished;
     }
 
-    public void update(List<Monster> monsters, Player player) {
+    public double getX()           { return x; }
+    public double getY()           { return y; }
+    public int getRadius()         { return radius; }
+    public boolean isExploded()    { return exploded; }
+    public int getExplosionTimer() { return explosionTimer; }
+
+    /**
+     * 1단계 : 이동/폭발 시간 진행. 이번 틱에 터지면 폭발 범위 안 몬스터 슬롯을 out 에 추가
+     * - 자기 필드만 바꾸고 격자/몬스터는 읽기만 → 투사체끼리 동시에 불러도 된다
+     */
+    public void advance(SpatialGrid grid, IntList out) {
         if (finished) return;
 
         if (!exploded) {
@@ -57,7 +96,8 @@ public class FireballProjectile {
 
             // 일정 거리 이상 가면 자동 폭발
             if (traveled >= maxDistance) {
-                explode(monsters, player);
+                exploded = true;
+                grid.queryRadius((int) x, (int) y, radius, out);
             }
         } else {
             // 폭발 이펙트 유지 시간
@@ -68,60 +108,49 @@ public class FireballProjectile {
         }
     }
 
-    private void explode(List<Monster> monsters, Player player) {
-        exploded = true;
-
-        int cx = (int) x;
-        int cy = (int) y;
-        int r2 = radius * radius;
-
-        for (Monster m : monsters) {
-            if (!m.isAlive()) continue;
-
-            int mx = m.worldX + m.width / 2;
-            int my = m.worldY + m.height / 2;
-            int dx = mx - cx;
-            int dy = my - cy;
+    /** 2단계 : 폭발 후보 hits[from, to) 에 데미지 (앞 투사체에 이미 죽은 몬스터는 건너뜀) */
+    public void resolveHits(MonsterStore ms, IntList hits, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int s = hits.get(i);
+            if (!ms.isAlive(s)) continue;
+            ms.takeDamage(s, damage);
 
-            if (dx * dx + dy * dy <= r2) {
-                m.takeDamage(damage);
-
-                int screenX = m.worldX - player.worldX + player.screenX;
-                int screenY = m.worldY - player.worldY + player.screenY;
-                gp.addDamageText(screenX, screenY, damage);
-            }
+            world.addHitDamage(s, damage);
         }
     }
 
-    public void draw(Graphics2D g2, Player player) {
-        if (finished) return;
-
-        int screenX = (int) x - player.worldX + player.screenX;
-        int screenY = (int) y - player.worldY + player.screenY;
-
+    /** 렌더 스냅샷 값(화면 좌표 중심, 폭발 상태)으로 그리기 */
+    public static void draw(Graphics2D g2, int screenX, int screenY,
+                            boolean exploded, int explosionTimer, int radius) {
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
                             RenderingHints.VALUE_ANTIALIAS_ON);
 
         if (!exploded) {
             // 날아가는 파이어볼(작은 불덩이)
             int size = 18;
-            g2.setColor(new Color(255, 180, 0));
+            g2.setColor(BALL_FILL);
             g2.fillOval(screenX - size / 2, screenY - size / 2, size, size);
-            g2.setColor(new Color(255, 80, 0));
+            g2.setColor(BALL_EDGE);
             g2.drawOval(screenX - size / 2, screenY - size / 2, size, size);
         } else {
             // 폭발 이펙트 (점점 사라지는 원)
             float t = explosionTimer / (float) EXPLOSION_DURATION;
-            int alpha = (int) ((1.0f - t) * 180);
             int currentR = (int) (radius * (0.8 + 0.4 * t));
+            int frame = Math.max(0, Math.min(EXPLOSION_FILL.length - 1, explosionTimer));
 
-            g2.setColor(new Color(255, 200, 50, Math.max(0, alpha)));
+            g2.setColor(EXPLOSION_FILL[frame]);
             g2.fillOval(screenX - currentR, screenY - currentR,
                         currentR * 2, currentR * 2);
 
-            g2.setColor(new Color(255, 120, 0, Math.max(0, alpha + 40)));
+            g2.setColor(EXPLOSION_EDGE[frame]);
             g2.drawOval(screenX - currentR, screenY - currentR,
                         currentR * 2, currentR * 2);
         }
     }
+
+    // 폭발 타이머 → 투명도 (끝날수록 옅어짐)
+    private static int explosionAlpha(int explosionTimer) {
+        float t = explosionTimer / (float) EXPLOSION_DURATION;
+        return (int) ((1.0f - t) * 180);
+    }
 }
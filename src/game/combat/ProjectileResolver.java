@@ -0,0 +1,98 @@
+package game.combat;
+
+import java.util.concurrent.ForkJoinPool;
+
+import game.util.Bag;
+import game.util.IntList;
+import game.util.ParallelFor;
+import game.world.MonsterStore;
+import game.world.SpatialGrid;
+
+/**
+ * 화살/파이어볼 한 틱 처리 (2단계)
+ * 1) 이동 + 맞을 후보 찾기 : 투사체마다 독립 (격자/몬스터는 읽기만) → 구간으로 나눠 병렬
+ *    후보 슬롯은 구간별 버퍼에 쌓고, 투사체마다 버퍼 안 [from, to) 만 기억
+ * 2) 맞히기 : 투사체 순서(화살 → 파이어볼)대로 데미지, 관통 수, 데미지 숫자 적용
+ *    앞 투사체에 이미 죽은 몬스터는 건너뛴다 → 한 스레드로 하나씩 처리하던 것과 같은 결과
+ * - 2단계 전까지 몬스터 체력/위치는 안 바뀌므로 1단계 질의는 어느 스레드에서 해도 같다
+ */
+public class ProjectileResolver {
+
+    private static final int CHUNK = 16;          // 구간 하나 = 투사체 16개
+    private static final int PARALLEL_MIN = 64;   // 투사체가 이보다 적으면 한 스레드
+
+    // 구간별 후보 버퍼 + 투사체별 범위 (투사체 번호 = 화살 0..A-1, 파이어볼 A..A+F-1)
+    private IntList[] chunkHits = new IntList[0];
+    private int[] hitFrom = new int[64];
+    private int[] hitTo = new int[64];
+
+    // 이번 틱 대상 (1단계 동안만, 풀 스레드는 invoke 시점 값을 본다)
+    private Bag<ArrowProjectile> arrows;
+    private Bag<FireballProjectile> fireballs;
+    private SpatialGrid grid;
+
+    private final ParallelFor.Body advanceBody = this::advanceRange;
+
+    /** 모든 화살/파이어볼 한 틱 진행 (죽은 투사체 제거는 부르는 쪽에서) */
+    public void update(Bag<ArrowProjectile> arrows, Bag<FireballProjectile> fireballs,
+                       SpatialGrid grid, ForkJoinPool pool) {
+        int a = arrows.size();
+        int n = a + fireballs.size();
+        if (n == 0) return;
+
+        ensureCapacity(n);
+        this.arrows = arrows;
+        this.fireballs = fireballs;
+        this.grid = grid;
+
+        // 1) 이동 + 후보 (구간 병렬)
+        ParallelFor.run(n >= PARALLEL_MIN ? pool : null, n, CHUNK, advanceBody);
+
+        // 2) 투사체 순서대로 맞히기
+        MonsterStore ms = grid.getStore();
+        for (int p = 0; p < n; p++) {
+            IntList hits = chunkHits[p / CHUNK];
+            if (p < a) {
+                arrows.get(p).resolveHits(ms, hits, hitFrom[p], hitTo[p]);
+            } else {
+                fireballs.get(p - a).resolveHits(ms, hits, hitFrom[p], hitTo[p]);
+            }
+        }
+
+        this.arrows = null;
+        this.fireballs = null;
+        this.grid = null;
+    }
+
+    // 구간 [from, to) 투사체 이동 + 후보 모으기 (자기 구간 버퍼/범위만 쓴다)
+    private void advanceRange(int chunk, int from, int to) {
+        IntList hits = chunkHits[chunk];
+        hits.clear();
+
+        int a = arrows.size();
+        for (int p = from; p < to; p++) {
+            hitFrom[p] = hits.size();
+            if (p < a) {
+                arrows.get(p).advance(grid, hits);
+            } else {
+                fireballs.get(p - a).advance(grid, hits);
+            }
+            hitTo[p] = hits.size();
+        }
+    }
+
+    private void ensureCapacity(int n) {
+        if (hitFrom.length < n) {
+            hitFrom = new int[n * 2];
+            hitTo = new int[n * 2];
+        }
+        int chunks = ParallelFor.chunkCount(n, CHUNK);
+        if (chunkHits.length < chunks) {
+            IntList[] grown = new IntList[chunks * 2];
+            for (int c = 0; c < grown.length; c++) {
+                grown[c] = c < chunkHits.length ? chunkHits[c] : new IntList();
+            }
+            chunkHits = grown;
+        }
+    }
+}
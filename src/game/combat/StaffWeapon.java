@@ -2,11 +2,12 @@ package game.combat;
 
 import java.awt.Color;
 import java.awt.Graphics;
-import java.util.List;
 
-import game.entity.monster.Monster;
 import game.entity.player.Player;
-import game.main.GamePanel;
+import game.render.RenderSnapshot;
+import game.sim.World;
+import game.world.MonsterStore;
+import game.world.SpatialGrid;
 
 public class StaffWeapon implements Weapon {
 
@@ -34,7 +35,7 @@ public class StaffWeapon implements Weapon {
     }
 
     @Override
-    public void attack(GamePanel gp, Player player, List<Monster> monsters) {
+    public void attack(World world, Player player, SpatialGrid grid) {
 
         int level = player.getWeaponUpgradeLevel(WeaponType.STAFF);
         if (level <= 0) level = 1;
@@ -50,44 +51,27 @@ public class StaffWeapon implements Weapon {
         else                 radius = 150;
 
         // 1. 사거리 내 가장 가까운 몬스터 탐색
-        Monster target = null;
-        double bestDist2 = Double.MAX_VALUE;
-
         int px = player.worldX + player.width / 2;
         int py = player.worldY + player.height / 2;
 
-        for (Monster m : monsters) {
-            if (!m.isAlive()) continue;
-
-            int mx = m.worldX + m.width / 2;
-            int my = m.worldY + m.height / 2;
-
-            double dx = mx - px;
-            double dy = my - py;
-            double dist2 = dx * dx + dy * dy;
-
-            if (dist2 < bestDist2 &&
-                dist2 <= maxCastDistance * maxCastDistance) {
-                bestDist2 = dist2;
-                target = m;
-            }
-        }
+        int target = grid.nearest(px, py, maxCastDistance);
 
-        if (target == null) {
+        if (target < 0) {
             return;
         }
 
-        int tx = target.worldX + target.width / 2;
-        int ty = target.worldY + target.height / 2;
+        MonsterStore ms = grid.getStore();
+        int tx = ms.centerX(target);
+        int ty = ms.centerY(target);
 
         double dirX = tx - px;
         double dirY = ty - py;
 
-        gp.spawnFireball(px, py, dirX, dirY, finalDamage, radius);
+        world.spawnFireball(px, py, dirX, dirY, finalDamage, radius);
     }
 
     @Override
-    public void draw(Graphics g, Player player) {
+    public void draw(Graphics g, RenderSnapshot snap) {
         // 파이어볼/폭발 그래픽은 FireballProjectile이 담당
         g.setColor(Color.WHITE);
     }
@@ -3,15 +3,19 @@ package game.combat;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.Rectangle;
-import java.util.List;
-
-import game.entity.monster.Monster;
 import game.entity.player.Player;
-import game.main.GamePanel;
+import game.render.RenderSnapshot;
+import game.sim.World;
+import game.util.IntList;
+import game.world.MonsterStore;
+import game.world.SpatialGrid;
 
 public class SwordWeapon implements Weapon {
 
+    // 이펙트 색 (프레임마다 만들지 않게 미리)
+    private static final Color EFFECT_FILL = new Color(255, 255, 0, 120);
+    private static final Color EFFECT_EDGE = new Color(255, 200, 0, 180);
+
     // 기본 Stats (레벨 1 기준)
     private final int baseDamage = 20;
     private final int baseRange  = 60;   // 지금은 안 써도 놔둬도 됨
@@ -39,8 +43,11 @@ public class SwordWeapon implements Weapon {
     private int effectTimer = 0;
     private final int EFFECT_DURATION = 8;
 
+    // 격자 질의 결과 (매 공격마다 재사용)
+    private final IntList hits = new IntList();
+
     @Override
-    public void attack(GamePanel gp, Player player, List<Monster> monsters) {
+    public void attack(World world, Player player, SpatialGrid grid) {
 
         int level = player.getWeaponUpgradeLevel(WeaponType.SWORD);
         if (level <= 0) level = 1;
@@ -60,38 +67,46 @@ public class SwordWeapon implements Weapon {
         double mul = player.getAttackMultiplier();
         int finalDamage = (int)Math.round(base * mul);
 
-        Rectangle atkArea = new Rectangle(
+        hits.clear();
+        grid.queryRect(
                 player.worldX - range,
                 player.worldY - range,
                 player.width + range * 2,
-                player.height + range * 2
+                player.height + range * 2,
+                hits
         );
 
-        for (Monster m : monsters) {
-            if (!m.isAlive()) continue;
-
-            if (atkArea.intersects(m.getBounds())) {
-                m.takeDamage(finalDamage);
-                int screenX = m.worldX - player.worldX + player.screenX;
-                int screenY = m.worldY - player.worldY + player.screenY;
-                gp.addDamageText(screenX, screenY, finalDamage);
-
-                System.out.println("Sword(Lv " + level + ") hit " + m + " for " + finalDamage);
-            }
+        MonsterStore ms = grid.getStore();
+        for (int i = 0; i < hits.size(); i++) {
+            int s = hits.get(i);
+            ms.takeDamage(s, finalDamage);
+            world.addHitDamage(s, finalDamage);
         }
+        hits.clear();
 
         effectTimer = EFFECT_DURATION;
     }
 
     @Override
-    public void draw(Graphics g, Player player) {
-        if (effectTimer <= 0) return;
+    public void updateEffect() {
+        if (effectTimer > 0) effectTimer--;
+    }
+
+    @Override
+    public int getEffectTimer() {
+        return effectTimer;
+    }
+
+    @Override
+    public void draw(Graphics g, RenderSnapshot snap) {
+        int idx = WeaponType.SWORD.ordinal();
+        if (snap.weaponEffects[idx] <= 0) return;
 
         Graphics2D g2 = (Graphics2D) g.create();
-        int px = player.screenX;
-        int py = player.screenY;
+        int px = snap.playerScreenX;
+        int py = snap.playerScreenY;
 
-        int level = player.getWeaponUpgradeLevel(WeaponType.SWORD);
+        int level = snap.weaponLevels[idx];
         if (level <= 0) level = 1;
 
         //  이펙트 원도 같은 range 사용
@@ -103,16 +118,15 @@ public class SwordWeapon implements Weapon {
             default: range = 120;
         }
 
-        int sizeW = player.width + range;
-        int sizeH = player.height + range;
+        int sizeW = snap.playerWidth + range;
+        int sizeH = snap.playerHeight + range;
 
-        g2.setColor(new Color(255, 255, 0, 120));
+        g2.setColor(EFFECT_FILL);
         g2.fillOval(px - range / 2, py - range / 2, sizeW, sizeH);
 
-        g2.setColor(new Color(255, 200, 0, 180));
+        g2.setColor(EFFECT_EDGE);
         g2.drawOval(px - range / 2, py - range / 2, sizeW, sizeH);
 
         g2.dispose();
-        effectTimer--;
     }
 }
@@ -1,11 +1,11 @@
 package game.combat;
 
 import java.awt.Graphics;
-import java.util.List;
 
-import game.entity.monster.Monster;
 import game.entity.player.Player;
-import game.main.GamePanel;
+import game.render.RenderSnapshot;
+import game.sim.World;
+import game.world.SpatialGrid;
 
 /**
  * 무기 공통 인터페이스
@@ -21,9 +21,15 @@ public interface Weapon {
      */
     int getCooldownFrames(Player player);
 
-    /** 자동 공격 로직 */
-    void attack(GamePanel gp, Player player, List<Monster> monsters);
+    /** 자동 공격 로직 (몬스터는 이번 틱에 갱신된 격자에서 찾는다) */
+    void attack(World world, Player player, SpatialGrid grid);
 
-    /** 무기 이펙트 그리기 */
-    void draw(Graphics g, Player player);
+    /** 틱마다 호출 : 이펙트 타이머 감소 등 (그리기와 분리) */
+    default void updateEffect() {}
+
+    /** 렌더 스냅샷에 넘길 이펙트 남은 프레임 (없으면 0) */
+    default int getEffectTimer() { return 0; }
+
+    /** 무기 이펙트 그리기 (EDT, 스냅샷 값만 사용) */
+    void draw(Graphics g, RenderSnapshot snap);
 }
@@ -1,20 +1,38 @@
 package game.effects;
 
-import java.awt.*;
+import java.awt.Graphics;
 
-public class DamageText {
+import game.render.DamageNumberRenderer;
+import game.util.Poolable;
+
+public class DamageText implements Poolable {
+
+    private static final int LIFE = 40;   // 40프레임 = 약 0.6초
 
     private int x, y;
     private int value;
 
     private float alpha = 1.0f;     // 투명도 (1 → 0)
-    private int life = 40;          // 40프레임 = 약 0.6초
+    private int life = LIFE;
     private int riseSpeed = 1;      // 위로 떠오르는 속도
 
-    public DamageText(int x, int y, int value) {
+    // 풀 전용 생성자 : 실제 값은 init 에서
+    public DamageText() {}
+
+    /** 풀에서 꺼낸 직후 위치/값 채우기 */
+    public DamageText init(int x, int y, int value) {
         this.x = x;
         this.y = y;
         this.value = value;
+        this.alpha = 1.0f;
+        this.life = LIFE;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        life = 0;
+        alpha = 0f;
     }
 
     public boolean update() {
@@ -25,16 +43,16 @@ public class DamageText {
         return (life <= 0 || alpha <= 0);
     }
 
-    public void draw(Graphics2D g2) {
-        g2.setComposite(AlphaComposite.getInstance(
-                AlphaComposite.SRC_OVER, alpha));
+    public int getX()       { return x; }
+    public int getY()       { return y; }
+    public int getValue()   { return value; }
+    public float getAlpha() { return alpha; }
 
-        g2.setColor(Color.YELLOW);
-        g2.setFont(new Font("맑은 고딕", Font.BOLD, 16));
-        g2.drawString(String.valueOf(value), x, y);
+    /** 남은 프레임 (0 이면 끝) */
+    public int getLife()    { return life; }
 
-        // 원래 투명도로 복구
-        g2.setComposite(AlphaComposite.getInstance(
-                AlphaComposite.SRC_OVER, 1f));
+    /** 렌더 스냅샷 값으로 그리기 (글자 아틀라스에서 숫자만 잘라 붙임) */
+    public static void draw(Graphics g, int x, int y, int value, float alpha) {
+        DamageNumberRenderer.draw(g, x, y, value, alpha);
     }
 }
@@ -2,52 +2,63 @@ package game.entity.monster;
 
 import java.awt.*;
 
-import game.entity.player.Player;
+import game.world.MonsterStore;
 
+/**
+ * 몬스터 한 마리를 가리키는 가벼운 뷰
+ * - 실제 데이터는 MonsterStore 의 배열에 있고, 이 객체는 슬롯 번호만 들고 있다
+ * - 저장소에서 삭제되면 분리(detach)되어 죽은 몬스터로 취급
+ */
 public class Monster {
 
-    // ===== 위치 / 이동 =====
-    public int worldX, worldY;      // 맵 상의 절대 좌표
-    public int speed = 1;
-    public int width = 30, height = 30;
+    private static final Color HP_FILL = new Color(0, 220, 0);
 
-    // ===== 그래픽 =====
-    public Image image;
-
-    // ===== 체력 =====
-    private int maxHp = 50;
-    private int currentHp = maxHp;
+    private final MonsterStore store;
+    private int slot;
 
     // ----------------------------------------------------
-    // 생성자
+    // 생성자 (MonsterStore.view 에서만 생성)
     // ----------------------------------------------------
-    public Monster(int x, int y, Image image) {
-        this.worldX = x;
-        this.worldY = y;
-        this.image   = image;
+    public Monster(MonsterStore store, int slot) {
+        this.store = store;
+        this.slot  = slot;
     }
 
-    // ----------------------------------------------------
-    // AI : 플레이어를 향해 이동
-    // ----------------------------------------------------
-    public void update(int playerWorldX, int playerWorldY) {
-        if (!isAlive()) return;
+    /** 저장소 내부용 : swap-remove 로 슬롯이 옮겨졌을 때 */
+    public void moveTo(int newSlot) {
+        this.slot = newSlot;
+    }
 
-        if (worldX < playerWorldX) worldX += speed;
-        if (worldX > playerWorldX) worldX -= speed;
-        if (worldY < playerWorldY) worldY += speed;
-        if (worldY > playerWorldY) worldY -= speed;
+    /** 저장소 내부용 : 삭제되었을 때 */
+    public void detach() {
+        this.slot = -1;
     }
 
+    public int getSlot() { return slot; }
+
+    /** 고유 번호 (삭제된 뒤에는 0) */
+    public int getId() { return slot < 0 ? 0 : store.id[slot]; }
+
     // ----------------------------------------------------
-    // 그리기 (플레이어 기준 카메라 변환 + HP 바)
+    // 위치 / 크기
     // ----------------------------------------------------
-    public void draw(Graphics g, Player player) {
-        if (!isAlive()) return;
+    public int getWorldX() { return slot < 0 ? 0 : store.x[slot]; }
+    public int getWorldY() { return slot < 0 ? 0 : store.y[slot]; }
+    public int getWidth()  { return getMonsterType().width; }
+    public int getHeight() { return getMonsterType().height; }
+    public int getType()   { return slot < 0 ? 0 : store.type[slot]; }
+
+    /** 종류 (삭제된 뒤에는 번호 0 종류) */
+    public MonsterType getMonsterType() { return MonsterType.get(getType()); }
 
-        // 월드좌표 -> 화면좌표
-        int screenX = worldX - player.worldX + player.screenX;
-        int screenY = worldY - player.worldY + player.screenY;
+    // ----------------------------------------------------
+    // 그리기 (렌더 스냅샷 값으로 화면 좌표에 + HP 바)
+    // ----------------------------------------------------
+    public static void draw(Graphics g, Image image,
+                            int screenX, int screenY,
+                            int width, int height,
+                            int currentHp, int maxHp) {
+        if (currentHp <= 0) return;
 
         // 1) 몬스터 이미지
         g.drawImage(image, screenX, screenY, width, height, null);
@@ -67,7 +78,7 @@ public class Monster {
         int hpFill = (int) (barWidth * ratio);
 
         // 남은 HP (초록)
-        g.setColor(new Color(0, 220, 0));
+        g.setColor(HP_FILL);
         g.fillRect(barX, barY, hpFill, barHeight);
 
         // 테두리
@@ -75,32 +86,23 @@ public class Monster {
         g.drawRect(barX, barY, barWidth, barHeight);
     }
 
-    // ----------------------------------------------------
-    // 충돌 범위
-    // ----------------------------------------------------
-    public Rectangle getBounds() {
-        return new Rectangle(worldX, worldY, width, height);
-    }
-
     // ----------------------------------------------------
     // 전투 관련
     // ----------------------------------------------------
     public int getDamage() {
-        return 10;
+        return getMonsterType().contactDamage;
     }
 
     // 공격 당했을 때
     public void takeDamage(int damage) {
-        if (!isAlive()) return;
-
-        currentHp -= damage;
-        if (currentHp < 0) currentHp = 0;
+        if (slot < 0) return;
+        store.takeDamage(slot, damage);
     }
 
     // 무기/게임 로직에서 쓰는 상태 메서드
-    public boolean isDead()  { return currentHp <= 0; }
-    public boolean isAlive() { return currentHp > 0; }
+    public boolean isDead()  { return !isAlive(); }
+    public boolean isAlive() { return slot >= 0 && store.hp[slot] > 0; }
 
-    public int getCurrentHp() { return currentHp; }
-    public int getMaxHp()     { return maxHp;    }
+    public int getCurrentHp() { return slot < 0 ? 0 : store.hp[slot]; }
+    public int getMaxHp()     { return slot < 0 ? 0 : store.maxHp[slot]; }
 }
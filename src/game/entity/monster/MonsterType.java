@@ -0,0 +1,125 @@
+package game.entity.monster;
+
+import java.awt.Image;
+import java.net.URL;
+
+import javax.swing.ImageIcon;
+
+/**
+ * 몬스터 종류 (플라이웨이트) : 종류마다 하나만 있고 모든 몬스터가 같이 쓴다
+ * - 체력/속도/접촉 데미지/판정 크기/경험치/이미지는 여기에만 있고,
+ *   몬스터(MonsterStore 슬롯)는 종류 번호(type)만 들고 있다
+ * - 번호 = 등록 순서 (MonsterStore.type, 웨이브 표, 리플레이 다이제스트가 이 번호를 쓴다)
+ * - 값은 바뀌지 않는다 (웨이브 체력 배율은 슬롯의 maxHp 로)
+ */
+public final class MonsterType {
+
+    // ===== 등록 (번호 순서 = 이 순서, 바꾸면 기존 리플레이가 안 맞는다) =====
+    //                                        이름        체력  속도 데미지 가로 세로 경험치 이미지
+    public static final MonsterType BAT      = new MonsterType(0, "bat",      20,  2,  5,  24, 24,  8, "bat.png",   true);
+    public static final MonsterType MUMMY    = new MonsterType(1, "mummy",    90,  1,  15, 36, 36, 20, "mummy.png", true);
+    public static final MonsterType SLIME    = new MonsterType(2, "slime",    50,  1,  10, 30, 30, 10, "slime.png", true);
+    public static final MonsterType SLIMELET = new MonsterType(3, "slimelet", 10,  1,  5,  18, 18,  4, "slime.png", false);
+
+    private static final MonsterType[] ALL = { BAT, MUMMY, SLIME, SLIMELET };
+
+    static {
+        SLIME.splitInto(SLIMELET, 2);   // 죽으면 작은 슬라임 둘로
+    }
+
+    /** 모든 종류 중 가장 큰 가로/세로 (격자 질의 범위 확장용) */
+    public static final int MAX_EXTENT = maxExtent();
+
+    // ===== 종류별 값 =====
+    public final int id;
+    public final String name;
+    public final int maxHp;            // 기본 체력 (웨이브 배율 전)
+    public final int speed;            // 틱당 px
+    public final int contactDamage;
+    public final int width, height;    // 판정 = 그리기 크기
+    public final int halfW, halfH;
+    public final int exp;              // 죽으면 떨구는 경험치
+    public final boolean spawnable;    // 웨이브 any 에서 뽑히는지 (분열로만 나오는 종류는 false)
+
+    private MonsterType splitType;     // 죽을 때 나오는 종류 (없으면 null)
+    private int splitCount;
+
+    private final String spritePath;
+    private volatile Image sprite;     // 처음 그릴 때 읽는다 (헤드리스에선 안 읽음)
+
+    private MonsterType(int id, String name, int maxHp, int speed, int contactDamage,
+                        int width, int height, int exp, String sprite, boolean spawnable) {
+        this.id = id;
+        this.name = name;
+        this.maxHp = maxHp;
+        this.speed = speed;
+        this.contactDamage = contactDamage;
+        this.width = width;
+        this.height = height;
+        this.halfW = width / 2;
+        this.halfH = height / 2;
+        this.exp = exp;
+        this.spritePath = "/images/monsters/" + sprite;
+        this.spawnable = spawnable;
+    }
+
+    private void splitInto(MonsterType type, int count) {
+        this.splitType = type;
+        this.splitCount = count;
+    }
+
+    public MonsterType getSplitType() { return splitType; }
+    public int getSplitCount()        { return splitCount; }
+
+    /** 이미지 (같은 파일을 쓰는 종류끼리는 같은 객체) */
+    public Image sprite() {
+        Image img = sprite;
+        if (img != null) return img;
+        synchronized (MonsterType.class) {
+            if (sprite != null) return sprite;
+            for (MonsterType t : ALL) {
+                if (t != this && t.sprite != null && t.spritePath.equals(spritePath)) {
+                    sprite = t.sprite;
+                    return sprite;
+                }
+            }
+            URL url = MonsterType.class.getResource(spritePath);
+            if (url == null) throw new IllegalStateException("몬스터 이미지가 없음 : " + spritePath);
+            sprite = new ImageIcon(url).getImage();
+            return sprite;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    // ----------------------------------------------------
+    // 등록부
+    // ----------------------------------------------------
+
+    public static MonsterType get(int id) { return ALL[id]; }
+    public static int count()             { return ALL.length; }
+
+    /** 이름으로 찾기 (없으면 null) */
+    public static MonsterType byName(String name) {
+        for (MonsterType t : ALL) {
+            if (t.name.equals(name)) return t;
+        }
+        return null;
+    }
+
+    /** 웨이브에서 뽑을 수 있는 종류 수 (앞에서부터 spawnable 인 것만, 번호 0 ~ 이 수-1) */
+    public static int spawnableCount() {
+        int n = 0;
+        while (n < ALL.length && ALL[n].spawnable) n++;
+        return n;
+    }
+
+    private static int maxExtent() {
+        int m = 0;
+        for (MonsterType t : ALL) m = Math.max(m, Math.max(t.width, t.height));
+        return m;
+    }
+}
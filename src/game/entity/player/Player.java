@@ -4,31 +4,24 @@ import java.awt.*;
 import java.util.ArrayList;
 import java.util.List;
 
-import javax.swing.ImageIcon;
-
 import game.combat.BowWeapon;
 import game.combat.StaffWeapon;
 import game.combat.SwordWeapon;
 import game.combat.Weapon;
 import game.combat.WeaponType;
-import game.main.GamePanel;
-import game.main.KeyHandler;
+import game.sim.PlayerInput;
 
 public class Player {
 
-    // ====== 위치 / 그래픽 ======
-    public GamePanel gp;
-    public KeyHandler keyH;
+    // ====== 위치 / 입력 ======
+    private final PlayerInput input;
 
     public int worldX, worldY;
-    public int screenX, screenY;
     public int width = 40, height = 40;
 
     private final int baseSpeed = 4;
     public int speed = baseSpeed;
 
-    private Image image;
-
     // ====== 체력 ======
     private final int baseMaxHp = 100;
     private int maxHp = baseMaxHp;
@@ -36,6 +29,7 @@ public class Player {
 
     private boolean isInvincible = false;
     private int invincibleCounter = 0;
+    private boolean godMode = false;
     private final int INVINCIBLE_TIME = 60;
 
     // ====== 레벨 / 경험치 ======
@@ -58,50 +52,33 @@ public class Player {
     }
 
     private List<OwnedWeapon> ownedWeapons = new ArrayList<>();
+    private String weaponStatus;   // UI 문자열 캐시 (무기가 바뀌면 null)
 
     // ----------------------------------------------------
     // 생성자
     // ----------------------------------------------------
-    public Player(GamePanel gp, KeyHandler keyH, WeaponType initialWeaponType) {
-        this.gp = gp;
-        this.keyH = keyH;
+    public Player(PlayerInput input, WeaponType initialWeaponType) {
+        this.input = input;
 
         worldX = 0;
         worldY = 0;
 
-        updateScreenCenter();
         recalcStats();
 
-        loadImage();
-
         // 시작 무기(선택 화면에서 null로 만들면 나중에 추가)
         if (initialWeaponType != null) {
             addOrUpgradeWeapon(initialWeaponType);
         }
     }
 
-    private void loadImage() {
-        image = new ImageIcon(
-                getClass().getResource("/images/character_1.png")
-        ).getImage();
-    }
-
-    // 화면 정가운데에 위치
-    public void updateScreenCenter() {
-        screenX = (gp.getWidth() / 2) - (width / 2);
-        screenY = (gp.getHeight() / 2) - (height / 2);
-    }
-
     // ----------------------------------------------------
     // 매 프레임 업데이트
     // ----------------------------------------------------
     public void update() {
-        updateScreenCenter();  // 창 크기 바뀌어도 항상 가운데
-
-        if (keyH.upPressed)    worldY -= speed;
-        if (keyH.downPressed)  worldY += speed;
-        if (keyH.leftPressed)  worldX -= speed;
-        if (keyH.rightPressed) worldX += speed;
+        if (input.up())    worldY -= speed;
+        if (input.down())  worldY += speed;
+        if (input.left())  worldX -= speed;
+        if (input.right()) worldX += speed;
 
         if (isInvincible) {
             invincibleCounter++;
@@ -112,18 +89,17 @@ public class Player {
         }
     }
 
-    public void draw(Graphics g) {
+    /** 렌더 스냅샷의 화면 좌표로 그리기 (이미지는 GamePanel 이 들고 있다) */
+    public static void draw(Graphics g, Image image,
+                            int screenX, int screenY, int width, int height) {
         g.drawImage(image, screenX, screenY, width, height, null);
     }
 
-    public Rectangle getBounds() {
-        return new Rectangle(worldX, worldY, width, height);
-    }
-
     // ----------------------------------------------------
     // 체력 / 데미지
     // ----------------------------------------------------
     public void takeDamage(int damage) {
+        if (godMode) return;
         if (!isInvincible) {
             currentHp -= damage;
             if (currentHp < 0) currentHp = 0;
@@ -134,6 +110,10 @@ public class Player {
     public int getCurrentHp() { return currentHp; }
     public int getMaxHp()     { return maxHp;     }
 
+    /** 벤치마크/헤드리스 실행용 : 켜면 데미지를 받지 않는다 */
+    public void setGodMode(boolean godMode) { this.godMode = godMode; }
+    public boolean isGodMode()              { return godMode; }
+
     // ----------------------------------------------------
     // 레벨 / 경험치
     // ----------------------------------------------------
@@ -232,6 +212,7 @@ public class Player {
 
     /** 새 무기를 얻거나, 이미 있다면 강화(최대 3단계) */
     public void addOrUpgradeWeapon(WeaponType type) {
+        weaponStatus = null;
         for (OwnedWeapon ow : ownedWeapons) {
             if (ow.type == type) {
                 if (ow.level < 3) {
@@ -267,8 +248,13 @@ public class Player {
         return ownedWeapons.get(0).weapon;
     }
 
-    // UI 표시용: 가지고 있는 무기 리스트 문자열
+    // UI 표시용: 가지고 있는 무기 리스트 문자열 (무기가 바뀔 때만 새로 만듦)
     public String getWeaponStatusString() {
+        if (weaponStatus == null) weaponStatus = buildWeaponStatus();
+        return weaponStatus;
+    }
+
+    private String buildWeaponStatus() {
         if (ownedWeapons.isEmpty()) return "None";
 
         StringBuilder sb = new StringBuilder();
@@ -281,11 +267,4 @@ public class Player {
         }
         return sb.toString();
     }
-
-    // ----------------------------------------------------
-    // 기타
-    // ----------------------------------------------------
-    public GamePanel getGamePanel() {
-        return gp;
-    }
 }
@@ -0,0 +1,62 @@
+package game.event;
+
+import java.util.Arrays;
+
+/**
+ * 한 판 전투 통계 (이벤트만 보고 센다 → 무기/몬스터 코드는 몰라도 된다)
+ */
+public class CombatStats implements EventConsumer {
+
+    private long damageDealt = 0;
+    private long hits = 0;
+    private int kills = 0;
+    private int orbsCollected = 0;
+    private long expCollected = 0;
+    private int levelUps = 0;
+
+    private final long[] countByType = new long[EventType.COUNT];
+
+    @Override
+    public void onEvents(EventQueue events, int count) {
+        for (int i = 0; i < count; i++) {
+            int t = events.type(i);
+            countByType[t]++;
+            switch (t) {
+                case EventType.DAMAGE_DEALT:
+                    damageDealt += events.value(i);
+                    hits++;
+                    break;
+                case EventType.MONSTER_KILLED:
+                    kills++;
+                    break;
+                case EventType.ORB_COLLECTED:
+                    orbsCollected++;
+                    expCollected += events.value(i);
+                    break;
+                case EventType.LEVEL_UP:
+                    levelUps++;
+                    break;
+            }
+        }
+    }
+
+    public void reset() {
+        damageDealt = 0;
+        hits = 0;
+        kills = 0;
+        orbsCollected = 0;
+        expCollected = 0;
+        levelUps = 0;
+        Arrays.fill(countByType, 0);
+    }
+
+    public long getDamageDealt()   { return damageDealt; }
+    public long getHits()          { return hits; }
+    public int getKills()          { return kills; }
+    public int getOrbsCollected()  { return orbsCollected; }
+    public long getExpCollected()  { return expCollected; }
+    public int getLevelUps()       { return levelUps; }
+
+    /** 종류별 누적 이벤트 수 (EventType 상수) */
+    public long getCount(int type) { return countByType[type]; }
+}
@@ -0,0 +1,10 @@
+package game.event;
+
+/**
+ * 이벤트 묶음 소비자 (틱마다 한 번, 이번 틱 이벤트 전부)
+ * - events.type(i) 등으로 i = 0 ~ count-1 을 읽는다 (객체 대신 번호로)
+ * - 묶음은 부른 뒤 바로 지워지므로 필요한 값은 복사해 둘 것
+ */
+public interface EventConsumer {
+    void onEvents(EventQueue events, int count);
+}
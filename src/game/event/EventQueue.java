@@ -0,0 +1,147 @@
+package game.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 전투 이벤트 링 버퍼 (이벤트 하나 = 나란한 int 배열 한 칸, 객체를 만들지 않는다)
+ * - 발행은 시뮬레이션 스레드의 순서대로 도는 단계에서만 (병렬 구간 안에서는 발행 금지)
+ * - drain() 은 틱마다 한 번 : 쌓인 이벤트를 등록된 소비자에게 한 묶음으로 넘기고 비운다
+ * - 가득 차면 2배로 늘린다 (이벤트를 버리지 않음)
+ *
+ * 필드 의미 (EventType 별)
+ *   DAMAGE_DEALT   : monster = 몬스터 id, slot = 슬롯, value = 데미지
+ *   MONSTER_KILLED : monster = 몬스터 id, value = 종류 번호(MonsterType), x, y = 죽은 자리(몬스터 중심)
+ *   ORB_COLLECTED  : value = 경험치, x, y = 구슬 위치
+ *   LEVEL_UP       : value = 새 레벨
+ * - slot 은 발행한 틱 안에서만 유효 (몬스터 제거는 다음 틱 몬스터 처리 단계에서)
+ */
+public class EventQueue {
+
+    // ===== 이벤트별 데이터 (ring, 위치 = (head + i) & mask) =====
+    private int[] type;
+    private int[] monster;
+    private int[] slot;
+    private int[] value;
+    private int[] x;
+    private int[] y;
+
+    private int head = 0;
+    private int size = 0;
+    private int mask;
+
+    private final List<EventConsumer> consumers = new ArrayList<>();
+
+    public EventQueue() {
+        this(1024);
+    }
+
+    public EventQueue(int capacity) {
+        alloc(Integer.highestOneBit(Math.max(16, capacity - 1)) << 1);
+    }
+
+    private void alloc(int capacity) {
+        type    = new int[capacity];
+        monster = new int[capacity];
+        slot    = new int[capacity];
+        value   = new int[capacity];
+        x       = new int[capacity];
+        y       = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    // ----------------------------------------------------
+    // 소비자
+    // ----------------------------------------------------
+    public void subscribe(EventConsumer consumer) {
+        consumers.add(consumer);
+    }
+
+    public void unsubscribe(EventConsumer consumer) {
+        consumers.remove(consumer);
+    }
+
+    /**
+     * 지금까지 쌓인 이벤트를 등록 순서대로 소비자마다 한 번씩 넘기고 비운다
+     * - 소비 중에 발행된 이벤트는 이번 묶음에 안 들어가고 다음 drain 으로
+     */
+    public void drain() {
+        int count = size;
+        if (count == 0) return;
+
+        for (int c = 0; c < consumers.size(); c++) {
+            consumers.get(c).onEvents(this, count);
+        }
+        head = (head + count) & mask;
+        size -= count;
+    }
+
+    /** 소비하지 않고 버리기 (판 새로 시작할 때) */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // ----------------------------------------------------
+    // 발행
+    // ----------------------------------------------------
+    public void damageDealt(int monsterId, int monsterSlot, int damage) {
+        push(EventType.DAMAGE_DEALT, monsterId, monsterSlot, damage, 0, 0);
+    }
+
+    public void monsterKilled(int monsterId, int monsterType, int centerX, int centerY) {
+        push(EventType.MONSTER_KILLED, monsterId, -1, monsterType, centerX, centerY);
+    }
+
+    public void orbCollected(int exp, int orbX, int orbY) {
+        push(EventType.ORB_COLLECTED, 0, -1, exp, orbX, orbY);
+    }
+
+    public void levelUp(int newLevel) {
+        push(EventType.LEVEL_UP, 0, -1, newLevel, 0, 0);
+    }
+
+    private void push(int t, int m, int s, int v, int px, int py) {
+        if (size == type.length) grow();
+
+        int i = (head + size) & mask;
+        type[i]    = t;
+        monster[i] = m;
+        slot[i]    = s;
+        value[i]   = v;
+        x[i]       = px;
+        y[i]       = py;
+        size++;
+    }
+
+    // 2배로 늘리면서 head 부터 순서대로 0 번 자리로 펴 놓기
+    private void grow() {
+        int[] oType = type, oMonster = monster, oSlot = slot, oValue = value, oX = x, oY = y;
+        int oMask = mask;
+        alloc(type.length * 2);
+        for (int i = 0; i < size; i++) {
+            int o = (head + i) & oMask;
+            type[i]    = oType[o];
+            monster[i] = oMonster[o];
+            slot[i]    = oSlot[o];
+            value[i]   = oValue[o];
+            x[i]       = oX[o];
+            y[i]       = oY[o];
+        }
+        head = 0;
+    }
+
+    // ----------------------------------------------------
+    // 읽기 (소비자용, i = 이번 묶음 안 번호 0 ~ count-1)
+    // ----------------------------------------------------
+    public int type(int i)    { return type[(head + i) & mask]; }
+    public int monster(int i) { return monster[(head + i) & mask]; }
+    public int slot(int i)    { return slot[(head + i) & mask]; }
+    public int value(int i)   { return value[(head + i) & mask]; }
+    public int x(int i)       { return x[(head + i) & mask]; }
+    public int y(int i)       { return y[(head + i) & mask]; }
+}
@@ -0,0 +1,24 @@
+package game.event;
+
+/**
+ * 전투 이벤트 종류 (EventQueue 에 int 로 들어간다, 필드 의미는 EventQueue 참고)
+ */
+public final class EventType {
+
+    public static final int DAMAGE_DEALT   = 0;
+    public static final int MONSTER_KILLED = 1;
+    public static final int ORB_COLLECTED  = 2;
+    public static final int LEVEL_UP       = 3;
+
+    public static final int COUNT = 4;
+
+    private static final String[] NAMES = {
+            "DamageDealt", "MonsterKilled", "OrbCollected", "LevelUp"
+    };
+
+    private EventType() {}
+
+    public static String name(int type) {
+        return (type >= 0 && type < COUNT) ? NAMES[type] : "Unknown(" + type + ")";
+    }
+}
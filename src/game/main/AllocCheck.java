@@ -0,0 +1,91 @@
+package game.main;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+import game.combat.WeaponType;
+import game.sim.PlayerInput;
+import game.sim.World;
+
+/**
+ * 틱 할당 검사 : 정상 상태의 World.update 가 힙을 전혀 쓰지 않는지 (gradle check 에 걸려 있음)
+ * - 창 없이 가만히 서 있는 판 (시드 고정, BOW, 무적) 을 최대 레벨까지 돌리고 JIT 예열을 더 한 뒤
+ * - 1분(3600 틱) 구간마다 이 스레드가 할당한 바이트 (com.sun.management.ThreadMXBean) 를 잰다
+ * - 0 바이트 구간이 windows 번 연속 나오면 통과, windows × MAX_WINDOW_FACTOR 구간 안에 못 나오면 종료 코드 1
+ *   (풀 / Bag / IntList 가 최고치를 새로 찍으며 가끔 늘어나는 건 곧 멈추므로 연속 구간으로 거른다)
+ *   → 틱마다 만드는 객체 (이벤트, 반복자, 람다 캡처 등) 가 다시 들어오면 모든 구간이 0 이 아니라서 걸린다
+ *
+ *   gradle allocCheck
+ *   java -cp build/classes/java/main game.main.AllocCheck [--seed S] [--windows N]
+ */
+public final class AllocCheck {
+
+    private static final int WINDOW_TICKS = 60 * World.TICKS_PER_SECOND;
+    private static final int WARMUP_TICKS = 20000;                           // 최대 레벨 뒤 JIT 예열
+    private static final int MAX_LEVEL_TICKS = 30 * 60 * World.TICKS_PER_SECOND;   // 이 안에 최대 레벨이 안 되면 실패
+    private static final int MAX_WINDOW_FACTOR = 5;                          // 최대 windows × 이만큼 잰다
+
+    private AllocCheck() {}
+
+    public static void main(String[] args) {
+        long seed = 1L;
+        int windows = 3;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--seed":    seed = Long.parseLong(args[i + 1]); break;
+                case "--windows": windows = Integer.parseInt(args[i + 1]); break;
+                default:
+                    System.err.println("사용법: AllocCheck [--seed S] [--windows N]");
+                    System.exit(2);
+            }
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            System.err.println("이 JVM 은 스레드별 할당량을 재지 못함");
+            System.exit(2);
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long tid = Thread.currentThread().getId();
+
+        World world = new World(PlayerInput.NONE, seed);
+        world.getPlayer().setGodMode(true);
+        world.startRun(WeaponType.BOW);
+
+        // 최대 레벨까지 (레벨업 선택지는 그때만 만들어지므로 정상 상태에서 뺀다)
+        while (world.getPlayer().getLevel() < world.getPlayer().getMaxLevel() || world.isLevelUpPending()) {
+            if (world.getTickCount() > MAX_LEVEL_TICKS) {
+                System.out.println("FAIL");
+                System.out.println("  " + MAX_LEVEL_TICKS + " 틱 안에 최대 레벨이 안 됨 (lv " + world.getPlayer().getLevel() + ")");
+                System.exit(1);
+            }
+            if (world.isLevelUpPending()) {
+                world.applyLevelUpChoice(0);
+                continue;
+            }
+            world.update();
+        }
+        for (int i = 0; i < WARMUP_TICKS; i++) world.update();
+
+        System.out.printf(Locale.ROOT, "alloc check : seed=%d weapon=BOW idle  max level at tick %d%n",
+                seed, world.getTickCount() - WARMUP_TICKS);
+        int clean = 0;
+        for (int w = 1; w <= windows * MAX_WINDOW_FACTOR && clean < windows; w++) {
+            long before = threads.getThreadAllocatedBytes(tid);
+            for (int i = 0; i < WINDOW_TICKS; i++) world.update();
+            long bytes = threads.getThreadAllocatedBytes(tid) - before;
+
+            System.out.printf(Locale.ROOT, "%2d  bytes=%6d  monsters=%d orbs=%d texts=%d%n",
+                    w, bytes, world.getMonsters().size(), world.getExpOrbs().size(), world.getDamageTexts().size());
+            clean = (bytes == 0) ? clean + 1 : 0;
+        }
+
+        if (clean < windows) {
+            System.out.println("FAIL");
+            System.out.println("  0 바이트 구간이 " + windows + " 번 연속 안 나옴 → 정상 상태 틱에서 힙 할당 (위 구간별 bytes)");
+            System.exit(1);
+        }
+        System.out.println("PASS");
+    }
+}
@@ -0,0 +1,100 @@
+package game.main;
+
+import java.util.concurrent.locks.LockSupport;
+
+import game.sim.World;
+
+/**
+ * 전용 스레드에서 도는 고정 타임스텝 게임 루프
+ * - 시뮬레이션은 항상 60Hz (누적기 방식), 너무 밀리면 MAX_CATCH_UP_STEPS 까지만 따라잡고 버린다
+ * - 그리기는 targetFps 마다 스냅샷을 넘기고 repaint 요청 (unlockedFps 면 매 바퀴)
+ * - 그래서 EDT 가 그리기에 오래 걸려도 게임 속도는 느려지지 않는다
+ */
+public class GameLoop implements Runnable {
+
+    private static final long STEP_NANOS = 1_000_000_000L / World.TICKS_PER_SECOND;
+    private static final int MAX_CATCH_UP_STEPS = 5;
+
+    private final GamePanel gp;
+
+    private volatile boolean running = false;
+    private volatile int targetFps;
+    private volatile boolean unlockedFps;
+
+    private Thread thread;
+
+    public GameLoop(GamePanel gp, int targetFps, boolean unlockedFps) {
+        this.gp = gp;
+        setTargetFps(targetFps);
+        this.unlockedFps = unlockedFps;
+    }
+
+    public void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this, "game-loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread = null;
+        }
+    }
+
+    public void setTargetFps(int fps) {
+        this.targetFps = Math.max(1, fps);
+    }
+
+    public void setUnlockedFps(boolean unlocked) {
+        this.unlockedFps = unlocked;
+    }
+
+    @Override
+    public void run() {
+        long prev = System.nanoTime();
+        long accumulator = 0L;
+        long nextRender = prev;
+
+        while (running) {
+            long now = System.nanoTime();
+            accumulator += now - prev;
+            prev = now;
+
+            // 1. 고정 스텝 시뮬레이션 (따라잡기 상한)
+            int steps = 0;
+            while (accumulator >= STEP_NANOS && steps < MAX_CATCH_UP_STEPS) {
+                gp.step();
+                accumulator -= STEP_NANOS;
+                steps++;
+            }
+            if (steps == MAX_CATCH_UP_STEPS && accumulator >= STEP_NANOS) {
+                // 너무 밀렸으면 남은 시간은 버린다 (죽음의 나선 방지)
+                accumulator = 0L;
+            }
+
+            // 2. 그리기 : 스냅샷 넘기고 repaint 요청
+            boolean unlocked = unlockedFps;
+            if (unlocked || now >= nextRender) {
+                gp.publishSnapshot();
+                gp.repaint();
+
+                long frameNanos = 1_000_000_000L / targetFps;
+                nextRender += frameNanos;
+                if (nextRender < now) nextRender = now + frameNanos;
+            }
+
+            // 3. 다음 스텝/프레임까지 대기
+            if (unlocked) {
+                Thread.yield();
+            } else {
+                long wake = Math.min(now + (STEP_NANOS - accumulator), nextRender);
+                long sleep = wake - System.nanoTime();
+                if (sleep > 0) LockSupport.parkNanos(sleep);
+            }
+        }
+    }
+}
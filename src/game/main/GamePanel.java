@@ -3,23 +3,49 @@ package game.main;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.awt.geom.*;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 
 import game.combat.ArrowProjectile;
 import game.combat.FireballProjectile;
+import game.combat.Weapon;
 import game.combat.WeaponType;
 import game.entity.ExpOrb;
 import game.entity.monster.Monster;
+import game.entity.monster.MonsterType;
 import game.entity.player.Player;
 import game.effects.DamageText;
+import game.profile.FrameProfiler;
+import game.profile.Phase;
+import game.profile.jfr.RenderFrameEvent;
+import game.render.Camera;
+import game.render.DamageNumberRenderer;
+import game.render.HudRenderer;
+import game.render.OrbSpriteCache;
+import game.render.ProfilerOverlay;
+import game.render.RenderSnapshot;
+import game.render.SnapshotExchange;
+import game.replay.Replay;
+import game.replay.ReplayRecorder;
+import game.sim.LevelUpChoice;
+import game.sim.World;
 import game.state.GameState;
+import game.util.Bag;
+import game.util.IntList;
+import game.world.MonsterStore;
+import game.world.PopulationManager;
+import game.world.WaveDirector;
+import game.world.WaveTable;
 
 public class GamePanel extends JPanel implements KeyListener {
 
     private final int SCREEN_WIDTH  = 800;
     private final int SCREEN_HEIGHT = 600;
-    private final int FPS = 60;
+    private final int FPS = 60;   // 기본 그리기 목표 (-Dgame.fps, -Dgame.unlockedFps 로 변경)
     
     // UI 애니메이션용
     private double uiHpDisplay;
@@ -30,42 +56,61 @@ public class GamePanel extends JPanel implements KeyListener {
     private final MainScreen mainFrame;
 
     public KeyHandler keyH = new KeyHandler(this);
-    private java.util.List<DamageText> damageTexts = new ArrayList<>();
 
-    public Player player;
-    public java.util.List<Monster> monsters = new ArrayList<>();
-
-    private javax.swing.Timer gameTimer;
+    // 시뮬레이션 (몬스터/투사체/레벨업 등 게임 상태 전부). 이 패널은 그리기와 입력만
+    // -Dgame.seed 로 첫 판 시드 고정 (없으면 무작위, Continue 로 새로 시작하면 새 시드)
+    private final World world = new World(keyH, Long.getLong("game.seed", new Random().nextLong()));
+
+    // 게임 루프 (전용 스레드) / 시뮬레이션 락 / EDT 로 넘길 스냅샷
+    private GameLoop gameLoop;
+    private final Object simLock = new Object();
+    private final SnapshotExchange snapshots = new SnapshotExchange();
+
+    // HUD (틀 이미지 캐시 + 글자 레이어, EDT 에서만 사용)
+    private final HudRenderer hud = new HudRenderer();
+
+    // 화면 밖 컬링 (스냅샷 채울 때 게임 루프 스레드에서만 사용)
+    private final Camera camera = new Camera();
+    private final IntList visibleMonsters = new IntList();
+    private static final int MONSTER_MARGIN = 8;    // HP 바 (머리 위 6px)
+    private static final int ARROW_MARGIN   = 8;    // 화살 길이 14 의 절반
+    private static final int TEXT_W = 48, TEXT_H = 20;
+    private volatile int lastDrawnEntities, lastCulledEntities;   // 마지막으로 그린 프레임 기준
+
+    // F3 프로파일러 (시뮬레이션 구간은 World 가, 그리기 구간은 여기서 EDT 로 기록)
+    // -Dgame.profile=true 면 켠 채로 시작, 끝날 때 -Dgame.profileCsv (기본 frame-profile.csv) 로 저장
+    private final FrameProfiler renderProfiler = new FrameProfiler("render");
+    private final ProfilerOverlay profilerOverlay = new ProfilerOverlay();
+    private volatile boolean showProfiler = false;
+    private Thread profileCsvHook;   // 처음 켤 때 종료 훅 등록 (메인 메뉴로 나가면 그때 저장하고 해제)
     private GameOverPanel gameOverPanel;   // 게임오버 화면
 
-    // 투사체들
-    private java.util.List<ArrowProjectile> arrows       = new ArrayList<>();
-    private java.util.List<FireballProjectile> fireballs = new ArrayList<>();
-
-    // 경험치 구슬
-    private java.util.List<ExpOrb> expOrbs = new ArrayList<>();
+    // 리플레이 녹화 (-Dgame.replayDir 가 있을 때만) : 한 판이 끝날 때마다 (게임오버 / Continue / 메인 메뉴 / 종료)
+    // <dir>/replay-<시드>.rep 로 저장 → ReplayMain play 로 헤드리스 재생
+    // JFR 프레임 이벤트 종류 (녹화 중일 때만 이벤트 객체를 만든다)
+    private static final jdk.jfr.EventType JFR_FRAME = jdk.jfr.EventType.getEventType(RenderFrameEvent.class);
 
-    public GameState gameState = GameState.RUNNING;
-    private boolean paused = false;
+    private static final String REPLAY_DIR = System.getProperty("game.replayDir");
+    private ReplayRecorder replayRecorder;   // simLock 안에서만
+    private Thread replayHook;
 
-    private Random rand = new Random();
-    private int spawnTimer = 0;
-    private final int SPAWN_INTERVAL = 60;
+    // 게임 루프 스레드와 EDT 가 같이 보는 상태
+    public volatile GameState gameState = GameState.RUNNING;
+    private volatile boolean paused = false;
 
     private Image backgroundImage;
-    private Image batImg, mummyImg, slimeImg;
+    private Image playerImg;
     private int bgWidth, bgHeight;
 
     private PausePanel pausePanel;
     private LevelUpPanel levelUpPanel;
     private WeaponSelectPanel weaponSelectPanel;
 
-    // 통계
-    private int killCount = 0;
+    // 통계 (화면에 보이는 시간은 실제 경과 시간)
     private long startNanoTime = 0L;
     
     // TAB으로 여닫는 상태 패널
-    private boolean showStatusPanel = false;
+    private volatile boolean showStatusPanel = false;
     
     // LEVEL UP 패널을 나중에 띄우기 위한 플래그
     private boolean pendingLevelUpPanel = false;
@@ -74,20 +119,8 @@ public class GamePanel extends JPanel implements KeyListener {
     // LEVEL UP! 텍스트 표시용
     private int levelUpMessageTimer = 0;
 
-    // 레벨업 선택지
-    private enum ChoiceType { PASSIVE_ATK, PASSIVE_SPD, PASSIVE_HP, WEAPON }
-
-    private static class LevelUpChoice {
-        ChoiceType type;
-        WeaponType weaponType; // WEAPON일 때만 사용
-        String title;
-        String desc;           // 툴팁용 설명
-    }
-
-    private LevelUpChoice[] levelUpChoices = new LevelUpChoice[3];
-
     // 시작 무기 선택 중인지 여부
-    private boolean waitingWeaponSelect = true;
+    private volatile boolean waitingWeaponSelect = true;
 
     // ----------------------------------------------------
     // 생성자
@@ -107,11 +140,41 @@ public class GamePanel extends JPanel implements KeyListener {
 
         loadImages();
 
-        // 처음에는 무기 없이 생성 (시작 시 선택)
-        player = new Player(this, keyH, null);
-        
+        // 몬스터가 많을 때 시뮬레이션을 코어 수만큼 나눠서 (결과는 1 스레드와 같음)
+        world.setThreads(Runtime.getRuntime().availableProcessors());
+
+        // 몬스터 수 상한 / 멀리 떨어진 몬스터 옮기는 거리 / 구슬 수 상한 (-Dgame.monsterBudget, -Dgame.despawnDistance, -Dgame.orbBudget)
+        world.getPopulation().setBudget(
+                Integer.getInteger("game.monsterBudget", PopulationManager.DEFAULT_BUDGET));
+        world.getPopulation().setDespawnDistance(
+                Integer.getInteger("game.despawnDistance", PopulationManager.DEFAULT_DESPAWN_DISTANCE));
+        world.getPopulation().setOrbBudget(
+                Integer.getInteger("game.orbBudget", PopulationManager.DEFAULT_ORB_BUDGET));
+
+        // 웨이브 표 / 초당 스폰 예산 (-Dgame.waves=파일, -Dgame.spawnBudget)
+        String wavesFile = System.getProperty("game.waves");
+        if (wavesFile != null) {
+            try {
+                world.getWaves().setTable(WaveTable.load(Path.of(wavesFile)));
+            } catch (IOException e) {
+                System.err.println("웨이브 표를 읽지 못해 기본 표 사용: " + e.getMessage());
+            }
+        }
+        world.getWaves().setSpawnBudget(
+                Integer.getInteger("game.spawnBudget", WaveDirector.DEFAULT_SPAWN_BUDGET));
+
+        if (Boolean.getBoolean("game.profile")) {
+            setProfiler(true);
+        }
+        if (REPLAY_DIR != null) {
+            replayHook = new Thread(() -> {
+                synchronized (simLock) { saveReplay(); }
+            }, "replay-save");
+            Runtime.getRuntime().addShutdownHook(replayHook);
+        }
+
         // UI 표시용 초기값
-        uiHpDisplay = player.getMaxHp();
+        uiHpDisplay = world.getPlayer().getMaxHp();
         uiExpDisplay = 0.0;
 
         pausePanel = new PausePanel();
@@ -130,7 +193,7 @@ public class GamePanel extends JPanel implements KeyListener {
         gameOverPanel.setVisible(false);
         add(gameOverPanel);
 
-        // 창 크기 바뀔 때 오버레이 패널과 플레이어 화면 위치 맞추기
+        // 창 크기 바뀔 때 오버레이 패널 맞추기
         addComponentListener(new ComponentAdapter() {
             @Override
             public void componentResized(ComponentEvent e) {
@@ -149,9 +212,6 @@ public class GamePanel extends JPanel implements KeyListener {
                     weaponSelectPanel.revalidate();
                     weaponSelectPanel.repaint();
                 }
-                if (player != null) {
-                    player.updateScreenCenter();
-                }
                 if (gameOverPanel != null) {
                     gameOverPanel.setBounds(0, 0, getWidth(), getHeight());
                     gameOverPanel.revalidate();
@@ -159,6 +219,9 @@ public class GamePanel extends JPanel implements KeyListener {
                 }
             }
         });
+
+        // 루프 시작 전에도 그릴 수 있도록 첫 스냅샷
+        publishSnapshot();
     }
 
     // ----------------------------------------------------
@@ -172,55 +235,56 @@ public class GamePanel extends JPanel implements KeyListener {
             bgWidth  = backgroundImage.getWidth(this);
             bgHeight = backgroundImage.getHeight(this);
 
-            batImg = new ImageIcon(
-                    getClass().getResource("/images/monsters/bat.png")
-            ).getImage();
-            mummyImg = new ImageIcon(
-                    getClass().getResource("/images/monsters/mummy.png")
-            ).getImage();
-            slimeImg = new ImageIcon(
-                    getClass().getResource("/images/monsters/slime.png")
+            playerImg = new ImageIcon(
+                    getClass().getResource("/images/character_1.png")
             ).getImage();
 
+            // 몬스터 이미지는 종류(MonsterType)마다 한 장, 미리 읽어 둔다
+            for (int i = 0; i < MonsterType.count(); i++) {
+                MonsterType.get(i).sprite();
+            }
+
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
-    // 활 발사체 생성
-    public void spawnArrow(double startX, double startY,
-                           double dirX, double dirY,
-                           int damage, int hitsAllowed,
-                           double speed) {
-        arrows.add(new ArrowProjectile(this, startX, startY,
-                dirX, dirY, damage, hitsAllowed, speed));
-    }
-
-    // 파이어볼 발사체 생성
-    public void spawnFireball(double startX, double startY,
-                              double dirX, double dirY,
-                              int damage, int radius) {
-        fireballs.add(new FireballProjectile(this, startX, startY,
-                dirX, dirY, damage, radius));
-    }
-
     // ----------------------------------------------------
     // 게임 루프 시작
     // ----------------------------------------------------
     public void startGameLoop() {
-        // JOptionPane 으로 무기 선택하던 부분 제거
         // 무기 선택은 WeaponSelectPanel에서 처리
-        gameTimer = new javax.swing.Timer(1000 / FPS, e -> {
+        // 시뮬레이션은 전용 스레드에서 60Hz 고정, 그리기 빈도만 설정으로 조절
+        gameLoop = new GameLoop(this,
+                Integer.getInteger("game.fps", FPS),
+                Boolean.getBoolean("game.unlockedFps"));
+        gameLoop.start();
+    }
+
+    // 게임 루프 스레드에서 고정 스텝마다 호출
+    void step() {
+        synchronized (simLock) {
             update();
-            repaint();
-        });
-        gameTimer.start();
+        }
     }
 
     // ----------------------------------------------------
     // 업데이트
     // ----------------------------------------------------
     private void update() {
+        // LEVEL UP! 텍스트는 일시정지 중에도 시간이 흐름 (그리기 빈도와 무관하게)
+        if (gameState == GameState.LEVELUP && levelUpMessageTimer > 0) {
+            levelUpMessageTimer--;
+            if (pendingLevelUpPanel && levelUpMessageTimer <= 0) {
+                pendingLevelUpPanel = false;   // 다시 안 뜨게
+                SwingUtilities.invokeLater(() -> {
+                    levelUpPanel.refreshButtons();
+                    levelUpPanel.setVisible(true);
+                    levelUpPanel.repaint();
+                });
+            }
+        }
+
         if (paused) return;
 
         // 아직 시작 무기를 선택하지 않았다면 게임 로직 진행 X
@@ -229,86 +293,22 @@ public class GamePanel extends JPanel implements KeyListener {
         }
 
         if (gameState == GameState.RUNNING) {
-            player.update();
-
-            // 몬스터 스폰
-            spawnTimer++;
-            if (spawnTimer >= SPAWN_INTERVAL) {
-                spawnMonster();
-                spawnTimer = 0;
-            }
-
-            // 몬스터 이동 + 충돌/사망 처리
-            for (Iterator<Monster> it = monsters.iterator(); it.hasNext();) {
-                Monster m = it.next();
-
-                if (!m.isAlive()) {
-                    // 죽은 몬스터 → 제거 + 킬 카운트 증가 + 경험치 구슬 드랍
-                    it.remove();
-                    killCount++;
-                    spawnExpOrb(m);
-                    continue;
-                }
-
-                m.update(player.worldX, player.worldY);
-
-                if (player.getBounds().intersects(m.getBounds())) {
-                    player.takeDamage(m.getDamage());
-                }
-            }
-
-            // 경험치 구슬 먹기
-            for (Iterator<ExpOrb> it = expOrbs.iterator(); it.hasNext();) {
-                ExpOrb orb = it.next();
-
-                // orb.update(player)가 true면 플레이어에게 흡수된 것
-                if (orb.update(player)) {
-                    it.remove();
-                    boolean leveledUp = player.gainExp(orb.getValue());
-                    if (leveledUp) {
-                        handleLevelUp();
-                        break; // 이번 프레임은 여기까지
-                    }
-                }
+            long tickBefore = world.getTickCount();
+            world.update();
+            if (replayRecorder != null && world.getTickCount() != tickBefore) {
+                replayRecorder.tick(world);
             }
 
-            // 무기 자동 공격 (보유한 모든 무기)
-            for (Player.OwnedWeapon ow : player.getOwnedWeapons()) {
-                if (ow.weapon == null) continue;
-
-                ow.cooldownCounter++;
-                int cd = ow.weapon.getCooldownFrames(player);
-                if (ow.cooldownCounter >= cd) {
-                    ow.cooldownCounter = 0;
-                    ow.weapon.attack(this, player, monsters);
-                }
-            }
-
-            // 화살 업데이트
-            for (Iterator<ArrowProjectile> it = arrows.iterator(); it.hasNext();) {
-                ArrowProjectile arrow = it.next();
-                arrow.update(monsters, player);
-                if (!arrow.isAlive()) {
-                    it.remove();
-                }
+            // 구슬 먹고 레벨업 → 선택 패널 (선택 전까지 월드는 멈춘다)
+            if (world.isLevelUpPending()) {
+                handleLevelUp();
             }
-
-            // 파이어볼 업데이트
-            for (Iterator<FireballProjectile> it = fireballs.iterator(); it.hasNext();) {
-                FireballProjectile fb = it.next();
-                fb.update(monsters, player);
-                if (!fb.isAlive()) {
-                    it.remove();
-                }
-            }
-
-            // 데미지 텍스트 업데이트 및 제거
-            damageTexts.removeIf(DamageText::update);
-            if (player.getCurrentHp() <= 0 && gameState != GameState.GAMEOVER) {
+            if (world.isGameOver() && gameState != GameState.GAMEOVER) {
                 triggerGameOver();
             }
-            
+
             // ───── UI 애니메이션 (HP/EXP 보간, 틱 증가) ─────
+            Player player = world.getPlayer();
             double hpTarget = player.getCurrentHp();
             uiHpDisplay += (hpTarget - uiHpDisplay) * 0.15;   // 부드럽게 따라가기
 
@@ -322,182 +322,279 @@ public class GamePanel extends JPanel implements KeyListener {
         }
     }
 
-    // 몬스터 스폰
-    private void spawnMonster() {
-        int type = rand.nextInt(3);
-        Image img = (type == 0 ? batImg : type == 1 ? mummyImg : slimeImg);
-
-        int spawnX = player.worldX + rand.nextInt(1600) - 800;
-        int spawnY = player.worldY + rand.nextInt(1200) - 600;
-
-        monsters.add(new Monster(spawnX, spawnY, img));
-    }
-
-    // 경험치 구슬 드랍
-    private void spawnExpOrb(Monster m) {
-        int x = m.worldX + m.width / 2;
-        int y = m.worldY + m.height / 2;
-        int value = 10; // 몬스터당 경험치 양 (필요하면 조정)
-        expOrbs.add(new ExpOrb(x, y, value));
-    }
-
-    // 데미지 텍스트 추가
-    public void addDamageText(int screenX, int screenY, int damage) {
-        damageTexts.add(new DamageText(screenX, screenY, damage));
-    }
-
     // ----------------------------------------------------
     // 레벨업 처리
     // ----------------------------------------------------
-    private LevelUpChoice makePassiveChoice(ChoiceType type, String title, String desc) {
-        LevelUpChoice c = new LevelUpChoice();
-        c.type = type;
-        c.title = title;
-        c.desc = desc;
-        return c;
-    }
-
-    private LevelUpChoice makeWeaponChoice(WeaponType wt, String title, String desc) {
-        LevelUpChoice c = new LevelUpChoice();
-        c.type = ChoiceType.WEAPON;
-        c.weaponType = wt;
-        c.title = title;
-        c.desc = desc;
-        return c;
-    }
-
     private void handleLevelUp() {
-        if (player.getLevel() >= player.getMaxLevel()) return;
-
         paused = true;
         gameState = GameState.LEVELUP;
         levelUpMessageTimer = 40; // 60이 약 1초 정도 LEVEL UP! 띄우기
 
-        prepareLevelUpChoices();        // 미리 선택지 생성
-        pendingLevelUpPanel = true;     // 나중에 패널 띄우겠다는 표시
-        levelUpPanel.setVisible(false); // 일단 숨겨둠
+        pendingLevelUpPanel = true;     // 나중에 패널 띄우겠다는 표시 (선택지는 World 가 미리 만들어 둠)
+        SwingUtilities.invokeLater(() -> levelUpPanel.setVisible(false)); // 일단 숨겨둠
     }
 
-    private void prepareLevelUpChoices() {
-        java.util.List<LevelUpChoice> pool = new ArrayList<>();
-
-        // 패시브 3개
-        pool.add(makePassiveChoice(
-                ChoiceType.PASSIVE_ATK,
-                "공격력 증가 (+20%)",
-                "모든 무기 데미지 +20% 증가"));
-        pool.add(makePassiveChoice(
-                ChoiceType.PASSIVE_SPD,
-                "이동 속도 증가",
-                "플레이어 이동 속도가 1만큼 증가"));
-        pool.add(makePassiveChoice(
-                ChoiceType.PASSIVE_HP,
-                "최대 체력 증가 (+20)",
-                "최대 체력이 +20 증가하며, 그만큼 체력 즉시 회복"));
-
-        // 무기 3개 (이미 3단계면 후보에서 제외)
-        if (player.canUpgradeWeapon(WeaponType.SWORD)) {
-            pool.add(makeWeaponChoice(
-                    WeaponType.SWORD,
-                    "Sword 강화/획득",
-                    "근거리 360도 공격\n레벨마다 데미지↑, 범위↑, 쿨타임↓"));
-        }
-        if (player.canUpgradeWeapon(WeaponType.BOW)) {
-            pool.add(makeWeaponChoice(
-                    WeaponType.BOW,
-                    "Bow 강화/획득",
-                    "중거리 투사체\n레벨마다 데미지↑, 화살 개수↑, 관통 수↑, 속도↑"));
-        }
-        if (player.canUpgradeWeapon(WeaponType.STAFF)) {
-            pool.add(makeWeaponChoice(
-                    WeaponType.STAFF,
-                    "Staff 강화/획득",
-                    "먼 거리 폭발 마법\n레벨마다 데미지↑, 폭발 반경↑, 쿨타임↓"));
+    private void applyLevelUpChoice(int idx) {
+        synchronized (simLock) {
+            if (!world.applyLevelUpChoice(idx)) return;
+            if (replayRecorder != null) replayRecorder.levelUpChoice(idx);
+
+            paused = false;
+            gameState = GameState.RUNNING;
         }
 
-        Collections.shuffle(pool, rand);
+        levelUpPanel.setVisible(false);
+        requestFocusInWindow();
+    }
 
-        for (int i = 0; i < 3; i++) {
-            levelUpChoices[i] = (i < pool.size()) ? pool.get(i) : null;
+    // ----------------------------------------------------
+    // 렌더 스냅샷 (게임 루프 스레드에서 그리기 직전에 호출)
+    // ----------------------------------------------------
+    void publishSnapshot() {
+        synchronized (simLock) {
+            FrameProfiler prof = world.getProfiler();
+            long t = prof.start();
+            fillSnapshot(snapshots.back());
+            prof.stop(Phase.SNAPSHOT, t);
         }
+        snapshots.publish();
     }
 
-    private void applyLevelUpChoice(int idx) {
-        LevelUpChoice choice = levelUpChoices[idx];
-        if (choice == null) return;
-
-        switch (choice.type) {
-            case PASSIVE_ATK:
-                player.upgradeAttack();
-                break;
-            case PASSIVE_SPD:
-                player.upgradeSpeed();
-                break;
-            case PASSIVE_HP:
-                player.upgradeMaxHp();
-                break;
-            case WEAPON:
-                player.addOrUpgradeWeapon(choice.weaponType);
-                break;
+    private void fillSnapshot(RenderSnapshot s) {
+        s.gameState = gameState;
+        s.waitingWeaponSelect = waitingWeaponSelect;
+        s.levelUpMessageTimer = levelUpMessageTimer;
+
+        // 플레이어 (화면 정가운데 : 창 크기 바뀌어도 항상 가운데)
+        Player player = world.getPlayer();
+        s.playerWorldX  = player.worldX;
+        s.playerWorldY  = player.worldY;
+        s.playerScreenX = (getWidth() / 2) - (player.width / 2);
+        s.playerScreenY = (getHeight() / 2) - (player.height / 2);
+        s.playerWidth   = player.width;
+        s.playerHeight  = player.height;
+        s.playerHp      = player.getCurrentHp();
+        s.playerMaxHp   = player.getMaxHp();
+        s.playerLevel   = player.getLevel();
+        s.playerExp     = player.getCurrentExp();
+        s.playerExpToNext = player.getExpToNextLevel();
+        s.attackLevel   = player.getAttackLevel();
+        s.speedLevel    = player.getSpeedLevel();
+        s.maxHpLevel    = player.getMaxHpLevel();
+        s.weaponStatus  = player.getWeaponStatusString();   // 무기가 바뀔 때만 새 문자열
+
+        java.util.Arrays.fill(s.weaponLevels, 0);
+        java.util.Arrays.fill(s.weaponEffects, 0);
+        java.util.Arrays.fill(s.weapons, null);
+        for (Player.OwnedWeapon ow : player.getOwnedWeapons()) {
+            if (ow.weapon == null) continue;
+            s.weapons[ow.type.ordinal()]       = ow.weapon;
+            s.weaponLevels[ow.type.ordinal()]  = ow.level;
+            s.weaponEffects[ow.type.ordinal()] = ow.weapon.getEffectTimer();
         }
 
-        levelUpPanel.setVisible(false);
-        paused = false;
-        gameState = GameState.RUNNING;
-        requestFocusInWindow();
+        // HUD
+        s.uiHpDisplay  = uiHpDisplay;
+        s.uiExpDisplay = uiExpDisplay;
+        s.uiTick       = uiTick;
+        s.killCount    = world.getKillCount();
+        s.elapsedSec   = (startNanoTime == 0L) ? 0
+                : (int) ((System.nanoTime() - startNanoTime) / 1_000_000_000L);
+
+        // ───── 화면 밖 컬링 : 보이는 것만 스냅샷에 복사 ─────
+        camera.follow(s.playerWorldX, s.playerWorldY,
+                      s.playerScreenX, s.playerScreenY,
+                      getWidth(), getHeight());
+        int drawn = 0, culled = 0;
+
+        // 몬스터 (격자에서 화면 영역만 질의. HP 바가 머리 위로 삐져나온 만큼 여유)
+        MonsterStore ms = world.getMonsters();
+        visibleMonsters.clear();
+        world.getMonsterGrid().queryRect(
+                camera.left() - MONSTER_MARGIN, camera.top() - MONSTER_MARGIN,
+                camera.width() + MONSTER_MARGIN * 2, camera.height() + MONSTER_MARGIN * 2,
+                visibleMonsters);
+        s.ensureMonsters(visibleMonsters.size());
+        int n = 0;
+        for (int k = 0; k < visibleMonsters.size(); k++) {
+            int i = visibleMonsters.get(k);
+            if (ms.hp[i] <= 0) continue;
+            s.monsterX[n] = ms.x[i];
+            s.monsterY[n] = ms.y[i];
+            s.monsterHp[n] = ms.hp[i];
+            s.monsterMaxHp[n] = ms.maxHp[i];
+            s.monsterType[n] = ms.type[i];
+            n++;
+        }
+        visibleMonsters.clear();
+        s.monsterCount = n;
+        drawn += n;
+        culled += ms.size() - n;
+
+        // 경험치 구슬
+        Bag<ExpOrb> expOrbs = world.getExpOrbs();
+        s.ensureOrbs(expOrbs.size());
+        n = 0;
+        for (int i = 0; i < expOrbs.size(); i++) {
+            ExpOrb orb = expOrbs.get(i);
+            int ox = (int) orb.getX(), oy = (int) orb.getY();
+            if (!camera.isVisibleCentered(ox, oy, OrbSpriteCache.HALF)) continue;
+            s.orbX[n] = ox;
+            s.orbY[n] = oy;
+            s.orbTick[n] = orb.getTick();
+            n++;
+        }
+        s.orbCount = n;
+        drawn += n;
+        culled += expOrbs.size() - n;
+
+        // 화살
+        Bag<ArrowProjectile> arrows = world.getArrows();
+        s.ensureArrows(arrows.size());
+        n = 0;
+        for (int i = 0; i < arrows.size(); i++) {
+            ArrowProjectile a = arrows.get(i);
+            if (!a.isAlive()) continue;
+            int ax = (int) a.getX(), ay = (int) a.getY();
+            if (!camera.isVisibleCentered(ax, ay, ARROW_MARGIN)) {
+                culled++;
+                continue;
+            }
+            s.arrowX[n] = ax;
+            s.arrowY[n] = ay;
+            n++;
+        }
+        s.arrowCount = n;
+        drawn += n;
+
+        // 파이어볼 (폭발 반경까지 포함해서 판정)
+        Bag<FireballProjectile> fireballs = world.getFireballs();
+        s.ensureFireballs(fireballs.size());
+        n = 0;
+        for (int i = 0; i < fireballs.size(); i++) {
+            FireballProjectile fb = fireballs.get(i);
+            if (!fb.isAlive()) continue;
+            int fx = (int) fb.getX(), fy = (int) fb.getY();
+            if (!camera.isVisibleCentered(fx, fy, fb.getRadius())) {
+                culled++;
+                continue;
+            }
+            s.fireballX[n] = fx;
+            s.fireballY[n] = fy;
+            s.fireballRadius[n] = fb.getRadius();
+            s.fireballTimer[n] = fb.getExplosionTimer();
+            s.fireballExploded[n] = fb.isExploded();
+            n++;
+        }
+        s.fireballCount = n;
+        drawn += n;
+
+        // 데미지 텍스트 (x, y 는 글자 기준선 왼쪽 → 위쪽으로 글자 높이만큼)
+        Bag<DamageText> damageTexts = world.getDamageTexts();
+        s.ensureTexts(damageTexts.size());
+        n = 0;
+        for (int i = 0; i < damageTexts.size(); i++) {
+            DamageText dt = damageTexts.get(i);
+            if (!camera.isVisible(dt.getX(), dt.getY() - TEXT_H, TEXT_W, TEXT_H, 0)) continue;
+            s.textX[n] = dt.getX();
+            s.textY[n] = dt.getY();
+            s.textValue[n] = dt.getValue();
+            s.textAlpha[n] = dt.getAlpha();
+            n++;
+        }
+        s.textCount = n;
+        drawn += n;
+        culled += damageTexts.size() - n;
+
+        s.drawnEntities  = drawn;
+        s.culledEntities = culled;
+
+        s.monsterTotal  = ms.size();
+        s.orbTotal      = expOrbs.size();
+        s.arrowTotal    = arrows.size();
+        s.fireballTotal = fireballs.size();
+        s.textTotal     = damageTexts.size();
     }
 
     // ----------------------------------------------------
-    // 그리기
+    // 그리기 (EDT : 스냅샷 값만 사용)
     // ----------------------------------------------------
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
 
+        RenderSnapshot s = snapshots.latest();
+        lastDrawnEntities  = s.drawnEntities;
+        lastCulledEntities = s.culledEntities;
+
+        FrameProfiler prof = renderProfiler;
+        long frameStart = prof.start();
+        RenderFrameEvent jfrFrame = JFR_FRAME.isEnabled() ? new RenderFrameEvent() : null;
+        if (jfrFrame != null) jfrFrame.begin();
+
+        // 월드 → 화면 변환 오프셋
+        int camX = s.playerScreenX - s.playerWorldX;
+        int camY = s.playerScreenY - s.playerWorldY;
+
         // 배경
-        drawBackground(g);
+        long t = prof.start();
+        drawBackground(g, s);
+        prof.stop(Phase.BACKGROUND, t);
 
         // 몬스터
-        for (Monster m : monsters) {
-            m.draw(g, player);
+        t = prof.start();
+        for (int i = 0; i < s.monsterCount; i++) {
+            MonsterType type = MonsterType.get(s.monsterType[i]);
+            Monster.draw(g, type.sprite(),
+                    s.monsterX[i] + camX, s.monsterY[i] + camY,
+                    type.width, type.height,
+                    s.monsterHp[i], s.monsterMaxHp[i]);
         }
+        prof.stop(Phase.DRAW_MONSTERS, t);
 
         // 경험치 구슬
-        for (ExpOrb orb : expOrbs) {
-            orb.draw(g, player);
+        t = prof.start();
+        for (int i = 0; i < s.orbCount; i++) {
+            ExpOrb.draw(g, s.orbX[i] + camX, s.orbY[i] + camY, s.orbTick[i]);
         }
+        prof.stop(Phase.DRAW_ORBS, t);
 
         // 플레이어
-        player.draw(g);
+        Player.draw(g, playerImg, s.playerScreenX, s.playerScreenY,
+                s.playerWidth, s.playerHeight);
 
         // 투사체들
+        t = prof.start();
         Graphics2D g2 = (Graphics2D) g.create();
-        for (ArrowProjectile arrow : arrows) {
-            arrow.draw(g2, player);
+        for (int i = 0; i < s.arrowCount; i++) {
+            ArrowProjectile.draw(g2, s.arrowX[i] + camX, s.arrowY[i] + camY);
         }
-        for (FireballProjectile fb : fireballs) {
-            fb.draw(g2, player);
+        for (int i = 0; i < s.fireballCount; i++) {
+            FireballProjectile.draw(g2, s.fireballX[i] + camX, s.fireballY[i] + camY,
+                    s.fireballExploded[i], s.fireballTimer[i], s.fireballRadius[i]);
         }
         g2.dispose();
+        prof.stop(Phase.DRAW_PROJECTILES, t);
 
-        // 무기 이펙트 (보유한 모든 무기)
-        for (Player.OwnedWeapon ow : player.getOwnedWeapons()) {
-            if (ow.weapon != null) {
-                ow.weapon.draw(g, player);
+        // 무기 이펙트 (스냅샷 시점에 보유한 무기)
+        for (Weapon w : s.weapons) {
+            if (w != null) {
+                w.draw(g, s);
             }
         }
 
-        // 데미지 텍스트
-        Graphics2D g2d = (Graphics2D) g;
-        for (DamageText dt : damageTexts) {
-            dt.draw(g2d);
-        }
+        // 데미지 텍스트 (글자 아틀라스에서 잘라 붙이기)
+        t = prof.start();
+        DamageNumberRenderer.drawAll(g, s, camX, camY);
+        prof.stop(Phase.DRAW_TEXTS, t);
 
         // UI (HP + Kill + Time + 레벨/패시브/무기현황)
-        drawUI(g);
+        t = prof.start();
+        drawUI(g, s);
+        prof.stop(Phase.HUD, t);
 
         // LEVEL UP! 텍스트 (잠깐 크게)
-        if (gameState == GameState.LEVELUP && levelUpMessageTimer > 0) {
+        if (s.gameState == GameState.LEVELUP && s.levelUpMessageTimer > 0) {
             Graphics2D gLv = (Graphics2D) g.create();
             gLv.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
                     RenderingHints.VALUE_ANTIALIAS_ON);
@@ -518,16 +615,8 @@ public class GamePanel extends JPanel implements KeyListener {
             gLv.drawString(text, x, y);
 
             gLv.dispose();
-            levelUpMessageTimer--;
-            
-            if (pendingLevelUpPanel && levelUpMessageTimer <= 0) {
-                levelUpPanel.refreshButtons();
-                levelUpPanel.setVisible(true);
-                levelUpPanel.repaint();
-                pendingLevelUpPanel = false;   // 다시 안 뜨게
-            }
             
-            double lowHpRatio = (double) player.getCurrentHp() / player.getMaxHp();
+            double lowHpRatio = (double) s.playerHp / s.playerMaxHp;
             if (lowHpRatio < 0.25) {
                 Graphics2D gLow = (Graphics2D) g.create();
                 int alpha = (int)(160 * (0.25 - lowHpRatio) / 0.25); // 0~160
@@ -537,12 +626,30 @@ public class GamePanel extends JPanel implements KeyListener {
                 gLow.dispose();
             }
         }
+
+        prof.stop(Phase.FRAME, frameStart);
+        prof.endFrame();
+
+        if (jfrFrame != null) jfrFrame.end();
+        if (jfrFrame != null && jfrFrame.shouldCommit()) {
+            jfrFrame.drawn = s.drawnEntities;
+            jfrFrame.culled = s.culledEntities;
+            jfrFrame.monsters = s.monsterCount;
+            jfrFrame.texts = s.textCount;
+            jfrFrame.commit();
+        }
+
+        // F3 프로파일러 (자기 그리는 시간은 frame 에 안 넣는다)
+        if (showProfiler) {
+            profilerOverlay.draw(g, s, getWidth(),
+                    world.getProfiler().getSummary(), renderProfiler.getSummary());
+        }
     }
 
     // 배경 타일링
-    private void drawBackground(Graphics g) {
-        int offsetX = -(player.worldX % bgWidth);
-        int offsetY = -(player.worldY % bgHeight);
+    private void drawBackground(Graphics g, RenderSnapshot s) {
+        int offsetX = -(s.playerWorldX % bgWidth);
+        int offsetY = -(s.playerWorldY % bgHeight);
 
         if (offsetX > 0) offsetX -= bgWidth;
         if (offsetY > 0) offsetY -= bgHeight;
@@ -554,217 +661,10 @@ public class GamePanel extends JPanel implements KeyListener {
         }
     }
 
-    // UI (HP 바 + 킬/시간 + 레벨 + 패시브 + 무기현황)
     // UI (HP/EXP 바 + 킬/시간 + (TAB) 레벨/패시브/무기현황)
-    private void drawUI(Graphics g) {
-        Graphics2D g2 = (Graphics2D) g.create();
-        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
-                            RenderingHints.VALUE_ANTIALIAS_ON);
-
-        // ───────── 상단 HUD 박스 ─────────
-        int hudX = 10;
-        int hudY = 10;
-        int hudW = 420;
-        int hudH = 70;   // 높이 조금 키움 (EXP 바까지)
-
-        Shape hudRect = new RoundRectangle2D.Float(
-                hudX, hudY, hudW, hudH, 18, 18);
-
-        // 어두운 반투명 박스 + 살짝 빛나는 테두리
-        g2.setPaint(new GradientPaint(
-                hudX, hudY,
-                new Color(10, 10, 10, 200),
-                hudX, hudY + hudH,
-                new Color(20, 20, 20, 230)));
-        g2.fill(hudRect);
-
-        g2.setColor(new Color(255, 255, 255, 60));
-        g2.setStroke(new BasicStroke(2f));
-        g2.draw(hudRect);
-
-        // ───────── HP & EXP 영역 ─────────
-        int barAreaX = hudX + 16;
-        int barAreaY = hudY + 10;
-        int barW     = 260;
-        int barH     = 16;
-
-        // ===== HP 바 =====
-        // 현재 HP (애니메이션 값 사용)
-        double hpRatio = uiHpDisplay / player.getMaxHp();
-        hpRatio = Math.max(0.0, Math.min(1.0, hpRatio));
-        int hpCurW = (int) (barW * hpRatio);
-
-        // HP 바 배경
-        g2.setColor(new Color(40, 40, 40));
-        g2.fillRoundRect(barAreaX, barAreaY, barW, barH, 12, 12);
-
-        // HP 바 (붉은 그라데이션)
-        GradientPaint hpGp = new GradientPaint(
-                barAreaX, barAreaY,
-                new Color(220, 60, 60),
-                barAreaX + barW, barAreaY + barH,
-                new Color(140, 0, 0));
-        g2.setPaint(hpGp);
-        g2.fillRoundRect(barAreaX, barAreaY, hpCurW, barH, 12, 12);
-
-        // 테두리
-        g2.setColor(new Color(0, 0, 0, 200));
-        g2.drawRoundRect(barAreaX, barAreaY, barW, barH, 12, 12);
-
-        // HP 수치 텍스트 (예: 80 / 100)
-        g2.setFont(new Font("맑은 고딕", Font.BOLD, 12));
-        String hpText = (int)Math.round(uiHpDisplay) + " / " + player.getMaxHp();
-        FontMetrics fmHp = g2.getFontMetrics();
-        int hpTw = fmHp.stringWidth(hpText);
-
-        // 검은 그림자 + 흰 글씨
-        g2.setColor(new Color(0, 0, 0, 180));
-        g2.drawString(hpText,
-                barAreaX + (barW - hpTw) / 2 + 1,
-                barAreaY + barH - 4 + 1);
-        g2.setColor(Color.WHITE);
-        g2.drawString(hpText,
-                barAreaX + (barW - hpTw) / 2,
-                barAreaY + barH - 4);
-
-        // HP 바 위로 지나가는 반짝이는 라인
-        int shineWidth = 40;
-        int sx = barAreaX + (uiTick % (barW + shineWidth)) - shineWidth;
-        GradientPaint shineGp = new GradientPaint(
-                sx, barAreaY,
-                new Color(255, 255, 255, 80),
-                sx + shineWidth, barAreaY + barH,
-                new Color(255, 255, 255, 0));
-        g2.setPaint(shineGp);
-        g2.fillRoundRect(sx, barAreaY, shineWidth, barH, 12, 12);
-
-        // ===== EXP 바 =====
-        int expBarY = barAreaY + barH + 6;
-        int curExp  = player.getCurrentExp();
-        int nextExp = player.getExpToNextLevel();
-
-        // 애니메이션된 exp 비율 사용 (0.0 ~ 1.0)
-        double expRatio = uiExpDisplay;
-        expRatio = Math.max(0.0, Math.min(1.0, expRatio));
-        int expCurW = (int) (barW * expRatio);
-
-        // EXP 배경
-        g2.setColor(new Color(35, 35, 35));
-        g2.fillRoundRect(barAreaX, expBarY, barW, 10, 10, 10);
-
-        // 보라색 EXP 바
-        GradientPaint expGp = new GradientPaint(
-                barAreaX, expBarY,
-                new Color(160, 120, 255),
-                barAreaX + barW, expBarY + 10,
-                new Color(90, 40, 200));
-        g2.setPaint(expGp);
-        g2.fillRoundRect(barAreaX, expBarY, expCurW, 10, 10, 10);
-
-        // 테두리
-        g2.setColor(new Color(0, 0, 0, 180));
-        g2.drawRoundRect(barAreaX, expBarY, barW, 10, 10, 10);
-
-        // EXP 수치 텍스트 (예: 10 / 50)
-        String expText = curExp + " / " + nextExp;
-        FontMetrics fmExp = g2.getFontMetrics();
-        int expTw = fmExp.stringWidth(expText);
-
-        g2.setColor(new Color(0, 0, 0, 170));
-        g2.drawString(expText,
-                barAreaX + (barW - expTw) / 2 + 1,
-                expBarY + 9);
-        g2.setColor(new Color(230, 220, 255));
-        g2.drawString(expText,
-                barAreaX + (barW - expTw) / 2,
-                expBarY + 8);
-
-        // 왼쪽에 현재 레벨 표시
-        g2.setFont(new Font("맑은 고딕", Font.BOLD, 16));
-        String lvText = "Lv " + player.getLevel();
-        g2.setColor(new Color(255, 230, 180));
-        g2.drawString(lvText, hudX + 20, hudY + hudH - 12);
-
-        // ───────── Kill / Time (우측) ─────────
-        int elapsedSec = (int) ((System.nanoTime() - startNanoTime) / 1_000_000_000L);
-        String timeText = String.format("%02d:%02d", elapsedSec / 60, elapsedSec % 60);
-
-        g2.setColor(new Color(220, 220, 220));
-        g2.drawString("Kill: " + killCount, hudX + hudW - 130, hudY + 26);
-        g2.drawString("Time: " + timeText, hudX + hudW - 130, hudY + 46);
-
-        // ───────── TAB 상태 패널 ─────────
-        if (showStatusPanel) {
-            int panelX = hudX;
-            int panelY = hudY + hudH + 8;
-            int panelW = 460;
-            int panelH = 80;
-
-            Shape panelRect = new RoundRectangle2D.Float(
-                    panelX, panelY, panelW, panelH, 18, 18);
-
-            g2.setPaint(new GradientPaint(
-                    panelX, panelY,
-                    new Color(0, 0, 0, 210),
-                    panelX, panelY + panelH,
-                    new Color(0, 0, 0, 235)));
-            g2.fill(panelRect);
-
-            g2.setColor(new Color(255, 255, 255, 80));
-            g2.setStroke(new BasicStroke(2f));
-            g2.draw(panelRect);
-
-            int y = panelY + 24;
-            g2.setFont(new Font("맑은 고딕", Font.PLAIN, 14));
-
-            // 레벨 / 경험치
-            g2.setColor(Color.WHITE);
-            g2.drawString(
-                    "Lv " + player.getLevel() +
-                            "   EXP " + player.getCurrentExp() + "/" + player.getExpToNextLevel(),
-                    panelX + 18, y);
-
-            // 패시브 (작은 아이콘 + 텍스트)
-            y += 18;
-            int iconY = y - 10;
-
-            // ATK 아이콘 + 글자
-            drawSwordIcon(g2, panelX + 22, iconY, 12);
-            g2.setColor(new Color(220, 220, 255));
-            g2.drawString("ATK +" + (player.getAttackLevel() * 20) + "%",
-                          panelX + 34, y);
-
-            // SPD 아이콘 + 글자
-            drawBootIcon(g2, panelX + 150, iconY, 12);
-            g2.drawString("SPD +" + player.getSpeedLevel(),
-                          panelX + 162, y);
-
-            // HP 아이콘 + 글자
-            drawHeartIcon(g2, panelX + 260, iconY, 12);
-            g2.drawString("HP +" + (player.getMaxHpLevel() * 20),
-                          panelX + 272, y);
-
-            // 무기 현황
-            y += 18;
-            g2.setColor(new Color(255, 230, 180));
-            g2.drawString(
-                    "Weapons  " + player.getWeaponStatusString(),
-                    panelX + 18, y);
-
-            // 안내 문구
-            g2.setFont(new Font("맑은 고딕", Font.PLAIN, 11));
-            g2.setColor(new Color(255, 255, 255, 140));
-            g2.drawString("[TAB] : 상태 패널 토글",
-                    panelX + 18, panelY + panelH - 10);
-        } else {
-            // 닫혀 있을 때 작은 힌트
-            g2.setFont(new Font("맑은 고딕", Font.PLAIN, 11));
-            g2.setColor(new Color(255, 255, 255, 120));
-            g2.drawString("[TAB] : 상태 보기",
-                          hudX + 20, hudY + hudH + 14);
-        }
-
-        g2.dispose();
+    // 틀은 미리 그려 둔 이미지, 글자는 값이 바뀔 때만 다시 그림 → HudRenderer
+    private void drawUI(Graphics g, RenderSnapshot s) {
+        hud.draw(g, s, showStatusPanel);
     }
 
     // ----------------------------------------------------
@@ -773,6 +673,12 @@ public class GamePanel extends JPanel implements KeyListener {
     @Override
     public void keyPressed(KeyEvent e) {
         int code = e.getKeyCode();
+
+        // F3 : 프로파일러 오버레이 (어느 상태에서나)
+        if (code == KeyEvent.VK_F3) {
+            setProfiler(!showProfiler);
+            return;
+        }
         
         // 게임오버 중에는 ESC / TAB 입력 다 무시
         if (gameState == GameState.GAMEOVER) return;
@@ -812,10 +718,6 @@ public class GamePanel extends JPanel implements KeyListener {
         paused = true;
         gameState = GameState.PAUSED;
 
-        if (player != null) {
-            player.updateScreenCenter();
-        }
-
         pausePanel.setBounds(0, 0, getWidth(), getHeight());
         pausePanel.setVisible(true);
         pausePanel.revalidate();
@@ -830,10 +732,67 @@ public class GamePanel extends JPanel implements KeyListener {
     }
 
     private void returnToMainMenu() {
-        if (gameTimer != null) gameTimer.stop();
+        if (gameLoop != null) gameLoop.stop();
+        // 이 패널은 버려지고 새 판은 새 GamePanel/World 로 → 스레드 풀 정리 (돌던 틱이 끝난 뒤 한 스레드로)
+        synchronized (simLock) { world.setThreads(1); }
+        if (replayHook != null) {
+            Runtime.getRuntime().removeShutdownHook(replayHook);
+            replayHook = null;
+            synchronized (simLock) { saveReplay(); }
+        }
+        if (profileCsvHook != null) {
+            Runtime.getRuntime().removeShutdownHook(profileCsvHook);
+            profileCsvHook = null;
+            writeProfileCsv();
+        }
         mainFrame.returnToMainMenu();
     }
 
+    // ----------------------------------------------------
+    // 프로파일러 (F3)
+    // ----------------------------------------------------
+    private void setProfiler(boolean on) {
+        showProfiler = on;
+        world.getProfiler().setEnabled(on);
+        renderProfiler.setEnabled(on);
+
+        if (on && profileCsvHook == null) {
+            profileCsvHook = new Thread(this::writeProfileCsv, "profile-csv");
+            Runtime.getRuntime().addShutdownHook(profileCsvHook);
+        }
+        repaint();
+    }
+
+    // 켠 뒤로 전체 구간 통계를 CSV 로 (마지막 요약 기준이라 최근 1초 정도는 빠질 수 있음)
+    private void writeProfileCsv() {
+        String path = System.getProperty("game.profileCsv", "frame-profile.csv");
+        try (Writer out = new FileWriter(path)) {
+            FrameProfiler.writeCsv(out, world.getProfiler().getSummary(), renderProfiler.getSummary());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // ----------------------------------------------------
+    // 리플레이 저장 (simLock 안에서, 저장하면 녹화 끝)
+    // ----------------------------------------------------
+    private void saveReplay() {
+        if (replayRecorder == null) return;
+        ReplayRecorder rec = replayRecorder;
+        replayRecorder = null;
+        if (rec.getRecordCount() == 0) return;
+
+        Replay replay = rec.finish(world);
+        Path file = Path.of(REPLAY_DIR, "replay-" + replay.seed + ".rep");
+        try {
+            Files.createDirectories(file.getParent());
+            replay.write(file);
+            System.out.println("리플레이 저장: " + file + " (" + replay.finalTick + " ticks)");
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
     // ----------------------------------------------------
     // 공통 커스텀 버튼 : ChoiceButton
     // ----------------------------------------------------
@@ -1079,7 +1038,7 @@ public class GamePanel extends JPanel implements KeyListener {
 
         public void refreshButtons() {
             for (int i = 0; i < 3; i++) {
-                LevelUpChoice c = levelUpChoices[i];
+                LevelUpChoice c = world.getLevelUpChoice(i);
                 ChoiceButton btn = optionButtons[i];
 
                 if (c != null) {
@@ -1232,13 +1191,9 @@ public class GamePanel extends JPanel implements KeyListener {
         }
 
         private void chooseWeapon(WeaponType type) {
-            player.addOrUpgradeWeapon(type); // 기본 무기 등록 (레벨 1)
-            waitingWeaponSelect = false;
+            beginRun(type);
             setVisible(false);
 
-            // 시간 측정 시작 시점을 선택 이후로
-            startNanoTime = System.nanoTime();
-
             requestFocusInWindow();
         }
 
@@ -1415,113 +1370,69 @@ public class GamePanel extends JPanel implements KeyListener {
         }
     }
     
-    private void drawHeartIcon(Graphics2D g2, int cx, int cy, int size) {
-        int w = size;
-        int h = size;
-        int x = cx - w / 2;
-        int y = cy - h / 2;
-
-        g2.setColor(new Color(220, 40, 70));
-        g2.fillOval(x, y, w / 2, h / 2);
-        g2.fillOval(x + w / 2, y, w / 2, h / 2);
-
-        Polygon p = new Polygon();
-        p.addPoint(x, y + h / 4);
-        p.addPoint(x + w, y + h / 4);
-        p.addPoint(x + w / 2, y + h);
-        g2.fillPolygon(p);
-
-        g2.setColor(new Color(120, 0, 30));
-        g2.setStroke(new BasicStroke(1f));
-        g2.drawPolygon(p);
-    }
-
-    private void drawSwordIcon(Graphics2D g2, int cx, int cy, int size) {
-        int bladeLen = size;
-        int bladeW   = size / 4;
-
-        int x = cx - bladeW / 2;
-        int y = cy - bladeLen / 2;
-
-        // 칼날
-        g2.setColor(new Color(200, 200, 220));
-        g2.fillRoundRect(x, y, bladeW, bladeLen, 4, 4);
-
-        // 손잡이
-        g2.setColor(new Color(120, 80, 40));
-        g2.fillRect(cx - size / 2, cy + bladeLen / 2 - 2, size, 4);
-    }
-    
-    // ─────────────────────────────────────
-    // 작은 UI 아이콘들 (하트 / 검 / 부츠)
-    // ─────────────────────────────────────
-    private void drawBootIcon(Graphics2D g2, int cx, int cy, int size) {
-        int w = size;
-        int h = size;
-        int x = cx - w / 2;
-        int y = cy - h / 2;
-
-        g2.setColor(new Color(150, 110, 60));
-        g2.fillRoundRect(x, y + h / 4, w, h / 2, 4, 4);
-
-        // 앞코
-        g2.fillRoundRect(x + w / 2, y + h / 2, w / 2, h / 3, 4, 4);
-
-        g2.setColor(new Color(90, 60, 30));
-        g2.setStroke(new BasicStroke(1f));
-        g2.drawRoundRect(x, y + h / 4, w, h / 2, 4, 4);
-    }
-    
  // 게임오버 진입
     private void triggerGameOver() {
         paused = true;
         gameState = GameState.GAMEOVER;
         showStatusPanel = false; // TAB 패널 끄기
+        saveReplay();            // 게임 루프 스레드 = simLock 안
+
+        // 게임 루프 스레드에서 불리므로 화면 처리는 EDT 로 넘김
+        SwingUtilities.invokeLater(() -> {
+            if (gameOverPanel != null) {
+                gameOverPanel.setBounds(0, 0, getWidth(), getHeight());
+                gameOverPanel.setVisible(true);
+                gameOverPanel.revalidate();
+                gameOverPanel.repaint();
+            }
+        });
+    }
+
+    // 시작 무기를 등록하고 시뮬레이션 시작 (무기 선택 화면에서)
+    private void beginRun(WeaponType type) {
+        synchronized (simLock) {
+            world.startRun(type);
+            waitingWeaponSelect = false;
+            if (REPLAY_DIR != null) replayRecorder = new ReplayRecorder(world, type);
 
-        if (gameOverPanel != null) {
-            gameOverPanel.setBounds(0, 0, getWidth(), getHeight());
-            gameOverPanel.setVisible(true);
-            gameOverPanel.revalidate();
-            gameOverPanel.repaint();
+            // 시간 측정 시작 시점을 선택 이후로
+            startNanoTime = System.nanoTime();
         }
     }
 
     // Continue 버튼에서 호출: 한 판을 완전히 새로 시작
     private void restartRun() {
-
-        // 기존 객체들 싹 정리
-        monsters.clear();
-        expOrbs.clear();
-        arrows.clear();
-        fireballs.clear();
-        damageTexts.clear();
-
-        // 플레이어 새로 만들기 (처음 상태)
-        player = new Player(this, keyH, null);
-        player.updateScreenCenter();
-
-        // 통계/상태 리셋
-        killCount = 0;
-        startNanoTime = 0L;
-        waitingWeaponSelect = true;  // 다시 무기 선택부터
-        showStatusPanel = false;
-
-        // HP/EXP UI 애니메이션 값도 초기화 (있다면)
-        uiHpDisplay = player.getCurrentHp();
-        uiExpDisplay = 0.0;
+        synchronized (simLock) {
+            // 월드 통째로 처음 상태로 (몬스터/구슬/투사체 정리 + 플레이어 새로, 새 시드)
+            saveReplay();
+            world.reset();
+
+            // 통계/상태 리셋
+            startNanoTime = 0L;
+            waitingWeaponSelect = true;  // 다시 무기 선택부터
+            showStatusPanel = false;
+
+            // HP/EXP UI 애니메이션 값도 초기화 (있다면)
+            uiHpDisplay = world.getPlayer().getCurrentHp();
+            uiExpDisplay = 0.0;
+
+            paused = false;
+            gameState = GameState.RUNNING;
+        }
 
         // 패널 상태
         gameOverPanel.setVisible(false);
         weaponSelectPanel.setVisible(true);
         weaponSelectPanel.setBounds(0, 0, getWidth(), getHeight());
 
-        paused = false;
-        gameState = GameState.RUNNING;
-
         requestFocusInWindow();
     }
 
     // 화면 크기 getter
     public int getScreenWidth()  { return SCREEN_WIDTH; }
     public int getScreenHeight() { return SCREEN_HEIGHT; }
+
+    // 컬링 통계 (마지막으로 그린 프레임)
+    public int getDrawnEntities()  { return lastDrawnEntities; }
+    public int getCulledEntities() { return lastCulledEntities; }
 }
@@ -2,10 +2,13 @@ package game.main;
 
 import java.awt.event.*;
 
-public class KeyHandler implements KeyListener {
+import game.sim.PlayerInput;
+
+public class KeyHandler implements KeyListener, PlayerInput {
 
     GamePanel gp;
-    public boolean upPressed, downPressed, leftPressed, rightPressed;
+    // EDT 에서 쓰고 게임 루프 스레드에서 읽는다
+    public volatile boolean upPressed, downPressed, leftPressed, rightPressed;
 
     public KeyHandler(GamePanel gp) {
         this.gp = gp;
@@ -34,4 +37,10 @@ public class KeyHandler implements KeyListener {
     }
 
     @Override public void keyTyped(KeyEvent e) {}
+
+    // 시뮬레이션 쪽 입력 (게임 루프 스레드에서 읽음)
+    @Override public boolean up()    { return upPressed; }
+    @Override public boolean down()  { return downPressed; }
+    @Override public boolean left()  { return leftPressed; }
+    @Override public boolean right() { return rightPressed; }
 }
@@ -0,0 +1,284 @@
+package game.main;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import game.combat.WeaponType;
+import game.profile.LatencyHistogram;
+import game.sim.BotInput;
+import game.sim.PlayerInput;
+import game.sim.World;
+import game.world.PopulationManager;
+import game.world.WaveDirector;
+import game.world.WaveTable;
+
+/**
+ * 창 없이 시뮬레이션만 오래 돌리는 소크 테스트 (몇 시간 분량을 최대 속도로)
+ * - 1분(3600 틱)마다 한 줄 : 틱 시간 p50/p99/max, 엔티티 수, GC 후 힙 사용량
+ * - 기준값을 넘으면 이유를 찍고 종료 코드 1 (야간 빌드에서 누수 / 틱 비용 증가 잡기)
+ *
+ *   gradle soak -PsoakArgs="--minutes 120 --max-p99-ms 8 --max-orbs 1000 --max-heap-mb 256"
+ *   java -cp build/classes/java/main game.main.SoakTest --minutes 60 --policy bot --weapon STAFF
+ *
+ * 옵션
+ *   --minutes N        시뮬레이션 시간 (분, 기본 30)
+ *   --seed S           시드 (기본 1)
+ *   --weapon W         시작 무기 SWORD / BOW / STAFF (기본 BOW)
+ *   --policy P         bot (몬스터 피하고 구슬 줍기, 기본) / idle (가만히)
+ *   --threads T        World.setThreads (기본 1)
+ *   --mortal           무적 끄기 (죽으면 거기서 끝, 실패는 아님)
+ *   --budget N         살아 있는 몬스터 상한 (기본 PopulationManager.DEFAULT_BUDGET)
+ *   --despawn-distance D  이보다 먼 몬스터를 화면 바깥으로 옮긴다 (px, 0 이면 끔)
+ *   --orb-budget N     경험치 구슬 상한, 넘으면 먼 것부터 합친다 (기본 PopulationManager.DEFAULT_ORB_BUDGET, 0 이면 끔)
+ *   --waves FILE       웨이브 표 (기본 game/world/waves.txt)
+ *   --spawn-budget N   초당 스폰 예산 (기본 WaveDirector.DEFAULT_SPAWN_BUDGET)
+ *   --csv FILE         분당 줄을 CSV 로도 저장
+ *   --max-p99-ms X     어느 1분이든 틱 p99 가 X ms 초과면 실패
+ *   --max-growth R     마지막 1분 p50 / 2번째 1분 p50 이 R 배 초과면 실패 (첫 1분은 JIT 예열이라 뺀다)
+ *                      → 실패 줄에 같은 두 분의 몬스터/구슬/숫자 수도 찍는다 (무엇이 늘었는지)
+ *   --max-monsters N   분 끝 몬스터 수 상한
+ *   --max-orbs N       분 끝 경험치 구슬 수 상한
+ *   --max-texts N      분 끝 데미지 숫자 수 상한
+ *   --max-heap-mb N    분 끝 GC 후 힙 사용량 상한
+ */
+public final class SoakTest {
+
+    private static final int TICKS_PER_MINUTE = 60 * 60;
+
+    // 옵션
+    private int minutes = 30;
+    private long seed = 1L;
+    private WeaponType weapon = WeaponType.BOW;
+    private String policy = "bot";
+    private int threads = 1;
+    private boolean mortal = false;
+    private int budget = PopulationManager.DEFAULT_BUDGET;
+    private int despawnDistance = PopulationManager.DEFAULT_DESPAWN_DISTANCE;
+    private int orbBudget = PopulationManager.DEFAULT_ORB_BUDGET;
+    private String waves = null;
+    private int spawnBudget = WaveDirector.DEFAULT_SPAWN_BUDGET;
+    private String csv = null;
+    private double maxP99Ms = -1, maxGrowth = -1;
+    private int maxMonsters = -1, maxOrbs = -1, maxTexts = -1, maxHeapMb = -1;
+
+    // 1분 한 줄
+    private static final class Minute {
+        int minute;
+        long ticks, p50, p99, max;
+        int monsters, orbs, arrows, fireballs, texts;
+        long heapBytes;
+        int kills, level;
+        long relocated, despawned, skipped;   // 이번 1분 동안
+    }
+
+    private final List<Minute> rows = new ArrayList<>();
+    private final List<String> failures = new ArrayList<>();
+
+    private SoakTest() {}
+
+    public static void main(String[] args) throws IOException {
+        SoakTest soak = new SoakTest();
+        try {
+            soak.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("사용법: SoakTest [--minutes N] [--seed S] [--weapon W] [--policy bot|idle] [--threads T]"
+                    + " [--mortal] [--budget N] [--despawn-distance D] [--orb-budget N] [--waves FILE] [--spawn-budget N] [--csv FILE] [--max-p99-ms X] [--max-growth R]"
+                    + " [--max-monsters N] [--max-orbs N] [--max-texts N] [--max-heap-mb N]");
+            System.exit(2);
+        }
+        soak.run();
+        soak.check();
+        if (soak.csv != null) soak.writeCsv();
+
+        if (!soak.failures.isEmpty()) {
+            System.out.println("FAIL");
+            for (String f : soak.failures) System.out.println("  " + f);
+            System.exit(1);
+        }
+        System.out.println("PASS");
+    }
+
+    private void parse(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String a = args[i];
+            if (a.equals("--mortal")) {
+                mortal = true;
+                continue;
+            }
+            if (i + 1 >= args.length) throw new IllegalArgumentException("값이 없음: " + a);
+            String v = args[++i];
+            switch (a) {
+                case "--minutes":      minutes = Integer.parseInt(v); break;
+                case "--seed":         seed = Long.parseLong(v); break;
+                case "--weapon":       weapon = WeaponType.valueOf(v.toUpperCase(Locale.ROOT)); break;
+                case "--policy":       policy = v; break;
+                case "--threads":      threads = Integer.parseInt(v); break;
+                case "--budget":       budget = Integer.parseInt(v); break;
+                case "--despawn-distance": despawnDistance = Integer.parseInt(v); break;
+                case "--orb-budget":   orbBudget = Integer.parseInt(v); break;
+                case "--waves":        waves = v; break;
+                case "--spawn-budget": spawnBudget = Integer.parseInt(v); break;
+                case "--csv":          csv = v; break;
+                case "--max-p99-ms":   maxP99Ms = Double.parseDouble(v); break;
+                case "--max-growth":   maxGrowth = Double.parseDouble(v); break;
+                case "--max-monsters": maxMonsters = Integer.parseInt(v); break;
+                case "--max-orbs":     maxOrbs = Integer.parseInt(v); break;
+                case "--max-texts":    maxTexts = Integer.parseInt(v); break;
+                case "--max-heap-mb":  maxHeapMb = Integer.parseInt(v); break;
+                default: throw new IllegalArgumentException("모르는 옵션: " + a);
+            }
+        }
+        if (!policy.equals("bot") && !policy.equals("idle")) {
+            throw new IllegalArgumentException("모르는 policy: " + policy);
+        }
+    }
+
+    // ----------------------------------------------------
+    // 실행
+    // ----------------------------------------------------
+    private void run() throws IOException {
+        BotInput bot = policy.equals("bot") ? new BotInput() : null;
+        World world = new World(bot != null ? bot : PlayerInput.NONE, seed);
+        world.getPlayer().setGodMode(!mortal);
+        world.startRun(weapon);
+        world.setThreads(threads);
+        PopulationManager population = world.getPopulation();
+        population.setBudget(budget);
+        population.setDespawnDistance(despawnDistance);
+        population.setOrbBudget(orbBudget);
+        WaveDirector director = world.getWaves();
+        if (waves != null) director.setTable(WaveTable.load(Path.of(waves)));
+        director.setSpawnBudget(spawnBudget);
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        LatencyHistogram ticks = new LatencyHistogram();
+        Random choices = new Random(seed);
+
+        System.out.printf(Locale.ROOT, "soak : %d min  seed=%d weapon=%s policy=%s threads=%d budget=%d despawn=%d orbBudget=%d%s%n",
+                minutes, seed, weapon, policy, threads, budget, despawnDistance, orbBudget, mortal ? " mortal" : "");
+        System.out.println(" min    p50ms   p99ms   maxms  monsters   orbs  arrows  fb  texts  heapMB   kills  lv"
+                + "  reloc  desp  skip");
+        long lastRelocated = 0, lastDespawned = 0, lastSkipped = 0;
+
+        long wallStart = System.nanoTime();
+        for (int m = 1; m <= minutes && !world.isGameOver(); m++) {
+            ticks.reset();
+            long end = (long) m * TICKS_PER_MINUTE;
+            while (world.getTickCount() < end && !world.isGameOver()) {
+                if (world.isLevelUpPending()) {
+                    int idx = (bot != null) ? bot.chooseLevelUp(world) : choices.nextInt(world.getLevelUpChoiceCount());
+                    if (!world.applyLevelUpChoice(idx)) world.applyLevelUpChoice(0);
+                    continue;
+                }
+                if (bot != null) bot.think(world);
+
+                long t = System.nanoTime();
+                world.update();
+                ticks.record(System.nanoTime() - t);
+            }
+
+            // GC 후 힙 (살아 있는 것만 → 누수 추세)
+            System.gc();
+
+            Minute row = new Minute();
+            row.minute = m;
+            row.ticks = ticks.count();
+            row.p50 = ticks.percentile(0.50);
+            row.p99 = ticks.percentile(0.99);
+            row.max = ticks.max();
+            row.monsters = world.getMonsters().size();
+            row.orbs = world.getExpOrbs().size();
+            row.arrows = world.getArrows().size();
+            row.fireballs = world.getFireballs().size();
+            row.texts = world.getDamageTexts().size();
+            row.heapBytes = memory.getHeapMemoryUsage().getUsed();
+            row.kills = world.getKillCount();
+            row.level = world.getPlayer().getLevel();
+            row.relocated = population.getRelocated() - lastRelocated;
+            row.despawned = population.getDespawned() - lastDespawned;
+            row.skipped = population.getSkippedSpawns() - lastSkipped;
+            lastRelocated = population.getRelocated();
+            lastDespawned = population.getDespawned();
+            lastSkipped = population.getSkippedSpawns();
+            rows.add(row);
+
+            System.out.printf(Locale.ROOT, "%4d  %7.3f %7.3f %7.2f  %8d %6d  %6d %3d  %5d  %6.1f  %6d  %2d  %5d %5d %5d%n",
+                    row.minute, row.p50 / 1e6, row.p99 / 1e6, row.max / 1e6,
+                    row.monsters, row.orbs, row.arrows, row.fireballs, row.texts,
+                    row.heapBytes / (1024.0 * 1024.0), row.kills, row.level,
+                    row.relocated, row.despawned, row.skipped);
+        }
+        world.setThreads(1);   // 풀 스레드 정리
+
+        double wall = (System.nanoTime() - wallStart) / 1e9;
+        System.out.printf(Locale.ROOT, "ticks=%d  %.1fs (x%.0f 실시간)%s%n",
+                world.getTickCount(), wall, world.getTickCount() / 60.0 / wall,
+                world.isGameOver() ? "  [게임 오버 : " + rows.size() + "분]" : "");
+        System.out.printf(Locale.ROOT, "population : peak=%d relocated=%d despawned=%d skippedSpawns=%d"
+                + "  orbs=%d peakOrbs=%d mergedOrbs=%d%n",
+                population.getPeakAlive(), population.getRelocated(), population.getDespawned(),
+                population.getSkippedSpawns(), world.getExpOrbs().size(), population.getPeakOrbs(),
+                population.getMergedOrbs());
+        System.out.printf(Locale.ROOT, "waves : fired=%d spawned=%d peakBurst=%d pending=%d blocked=%d dropped=%d%n",
+                director.getWavesFired(), director.getSpawned(), director.getPeakBurst(),
+                director.getPending(), director.getBlocked(), director.getDropped());
+    }
+
+    // ----------------------------------------------------
+    // 기준값 검사
+    // ----------------------------------------------------
+    private void check() {
+        for (Minute r : rows) {
+            if (maxP99Ms >= 0 && r.p99 / 1e6 > maxP99Ms) {
+                failures.add(String.format(Locale.ROOT, "%d분 : 틱 p99 %.3fms > %.3fms", r.minute, r.p99 / 1e6, maxP99Ms));
+            }
+            if (maxMonsters >= 0 && r.monsters > maxMonsters) {
+                failures.add(r.minute + "분 : 몬스터 " + r.monsters + " > " + maxMonsters);
+            }
+            if (maxOrbs >= 0 && r.orbs > maxOrbs) {
+                failures.add(r.minute + "분 : 구슬 " + r.orbs + " > " + maxOrbs);
+            }
+            if (maxTexts >= 0 && r.texts > maxTexts) {
+                failures.add(r.minute + "분 : 데미지 숫자 " + r.texts + " > " + maxTexts);
+            }
+            if (maxHeapMb >= 0 && r.heapBytes > (long) maxHeapMb * 1024 * 1024) {
+                failures.add(String.format(Locale.ROOT, "%d분 : 힙 %.1fMB > %dMB",
+                        r.minute, r.heapBytes / (1024.0 * 1024.0), maxHeapMb));
+            }
+        }
+
+        if (maxGrowth >= 0 && rows.size() >= 3) {
+            Minute base = rows.get(1), last = rows.get(rows.size() - 1);
+            double growth = (double) last.p50 / Math.max(1, base.p50);
+            if (growth > maxGrowth) {
+                failures.add(String.format(Locale.ROOT, "틱 p50 증가 x%.2f (2분 %.3fms → %d분 %.3fms) > x%.2f"
+                        + "  [몬스터 %d → %d, 구슬 %d → %d, 숫자 %d → %d]",
+                        growth, base.p50 / 1e6, last.minute, last.p50 / 1e6, maxGrowth,
+                        base.monsters, last.monsters, base.orbs, last.orbs, base.texts, last.texts));
+            }
+        }
+    }
+
+    private void writeCsv() throws IOException {
+        try (Writer out = new FileWriter(csv)) {
+            out.write("minute,ticks,p50_us,p99_us,max_us,monsters,orbs,arrows,fireballs,texts,heap_mb,kills,level,"
+                    + "relocated,despawned,skipped_spawns\n");
+            for (Minute r : rows) {
+                out.write(String.format(Locale.ROOT, "%d,%d,%.1f,%.1f,%.1f,%d,%d,%d,%d,%d,%.1f,%d,%d,%d,%d,%d\n",
+                        r.minute, r.ticks, r.p50 / 1000.0, r.p99 / 1000.0, r.max / 1000.0,
+                        r.monsters, r.orbs, r.arrows, r.fireballs, r.texts,
+                        r.heapBytes / (1024.0 * 1024.0), r.kills, r.level,
+                        r.relocated, r.despawned, r.skipped));
+            }
+        }
+    }
+}
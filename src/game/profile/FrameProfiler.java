@@ -0,0 +1,115 @@
+package game.profile;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * 구간별 시간 기록기 (스레드 하나 전용 : 시뮬레이션용 / 그리기용 따로 만든다)
+ *
+ *   long t = prof.start();
+ *   ... 잴 코드 ...
+ *   prof.stop(Phase.SPAWN, t);
+ *
+ * - 꺼져 있으면 start 는 0 을 돌려주고 stop 은 바로 리턴 (volatile 읽기 한 번 + 비교 한 번)
+ * - 히스토그램은 처음 켤 때 만든다 (안 켜면 메모리도 안 씀)
+ * - endFrame() 을 WINDOW_FRAMES 번 부를 때마다 요약(ProfileSummary)을 새로 만들어 넘긴다
+ *   → 다른 스레드(오버레이, CSV)는 getSummary() 로 그 요약만 읽는다
+ */
+public class FrameProfiler {
+
+    public static final int WINDOW_FRAMES = 60;   // 요약 한 번 = 약 1초
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final String thread;
+    private volatile boolean enabled = false;
+
+    // 기록하는 스레드만 만지는 상태
+    private LatencyHistogram[] window;
+    private LatencyHistogram[] total;
+    private long frames = 0;
+    private int windowFrames = 0;
+
+    private volatile ProfileSummary summary;
+
+    public FrameProfiler(String thread) {
+        this.thread = thread;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // ----------------------------------------------------
+    // 기록 (기록하는 스레드에서만)
+    // ----------------------------------------------------
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void stop(Phase phase, long startNanos) {
+        if (startNanos == 0L) return;
+        record(phase, System.nanoTime() - startNanos);
+    }
+
+    public void record(Phase phase, long nanos) {
+        if (window == null) {
+            window = new LatencyHistogram[PHASES.length];
+            total = new LatencyHistogram[PHASES.length];
+        }
+        int p = phase.ordinal();
+        if (window[p] == null) {
+            window[p] = new LatencyHistogram();
+            total[p] = new LatencyHistogram();
+        }
+        window[p].record(nanos);
+        total[p].record(nanos);
+    }
+
+    /** 프레임(틱) 하나 끝. 묶음이 차면 요약을 만들고 최근 묶음 히스토그램을 비운다 */
+    public void endFrame() {
+        if (!enabled || window == null) return;
+        frames++;
+        if (++windowFrames < WINDOW_FRAMES) return;
+
+        ProfileSummary.Stats[] w = new ProfileSummary.Stats[PHASES.length];
+        ProfileSummary.Stats[] t = new ProfileSummary.Stats[PHASES.length];
+        for (int p = 0; p < PHASES.length; p++) {
+            if (window[p] == null) continue;
+            w[p] = new ProfileSummary.Stats(window[p]);
+            t[p] = new ProfileSummary.Stats(total[p]);
+            window[p].reset();
+        }
+        summary = new ProfileSummary(thread, frames, w, t);
+        windowFrames = 0;
+    }
+
+    /** 마지막으로 만든 요약 (아직 없으면 null, 어느 스레드에서나) */
+    public ProfileSummary getSummary() {
+        return summary;
+    }
+
+    // ----------------------------------------------------
+    // CSV (구간마다 한 줄, 켠 뒤로 전체 통계, 단위 µs)
+    // ----------------------------------------------------
+    public static void writeCsv(Writer out, ProfileSummary... summaries) throws IOException {
+        out.write("thread,phase,count,mean_us,p50_us,p90_us,p99_us,max_us\n");
+        for (ProfileSummary s : summaries) {
+            if (s == null) continue;
+            for (Phase phase : PHASES) {
+                ProfileSummary.Stats st = s.total[phase.ordinal()];
+                if (st == null) continue;
+                out.write(String.format(Locale.ROOT, "%s,%s,%d,%.1f,%.1f,%.1f,%.1f,%.1f\n",
+                        s.thread, phase.label, st.count,
+                        st.mean / 1000.0, st.p50 / 1000.0, st.p90 / 1000.0,
+                        st.p99 / 1000.0, st.max / 1000.0));
+            }
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,71 @@
+package game.profile;
+
+import java.util.Arrays;
+
+/**
+ * 고정 메모리 시간 히스토그램 (HdrHistogram 과 같은 로그-선형 칸, 단위 ns)
+ * - 2의 거듭제곱 구간마다 SUB 칸으로 나눠서 상대 오차 약 3% (32ns 미만은 정확)
+ * - MAX_EXP 를 넘는 값(약 68초 이상)은 마지막 구간에 넣는다
+ * - 기록은 배열 칸 하나 증가라 할당 없음, 한 스레드에서만 기록할 것
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB = 1 << SUB_BITS;     // 구간당 칸 수
+    private static final int MAX_EXP = 36;             // 2^36 ns ≈ 68초
+    private static final int BUCKETS = (MAX_EXP - SUB_BITS + 2) * SUB;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count = 0;
+    private long sum = 0;
+    private long max = 0;
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        counts[indexOf(nanos)]++;
+        count++;
+        sum += nanos;
+        if (nanos > max) max = nanos;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        max = 0;
+    }
+
+    public long count() { return count; }
+    public long max()   { return max; }
+    public long mean()  { return count == 0 ? 0 : sum / count; }
+
+    /** q (0~1) 백분위 값. 칸의 위쪽 끝을 돌려주되 실제 최대값은 넘지 않는다 */
+    public long percentile(double q) {
+        if (count == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(q * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) return Math.min(upperOf(i), max);
+        }
+        return max;
+    }
+
+    // ----------------------------------------------------
+    // 칸 번호 <-> 값
+    // ----------------------------------------------------
+    private static int indexOf(long v) {
+        if (v < SUB) return (int) v;
+        int e = 63 - Long.numberOfLeadingZeros(v);
+        if (e > MAX_EXP) return BUCKETS - 1;
+        int shift = e - SUB_BITS;
+        return (shift + 1) * SUB + (int) ((v >>> shift) & (SUB - 1));
+    }
+
+    private static long upperOf(int index) {
+        if (index < SUB) return index;
+        int shift = index / SUB - 1;
+        long lower = (long) (SUB | (index % SUB)) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
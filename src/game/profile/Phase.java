@@ -0,0 +1,37 @@
+package game.profile;
+
+/**
+ * 프로파일러가 재는 구간
+ * - 시뮬레이션 구간은 게임 루프 스레드(World), 그리기 구간은 EDT(GamePanel)에서 기록
+ */
+public enum Phase {
+
+    // ===== 시뮬레이션 (한 틱) =====
+    TICK("tick"),
+    PLAYER("player"),
+    SEPARATION("separation"),
+    SPAWN("spawn"),
+    MONSTERS("monsters"),
+    GRID("grid"),
+    ORBS("orb pickup"),
+    WEAPONS("weapons"),
+    PROJECTILES("arrows+fireballs"),
+    TEXTS("damage texts"),
+    EVENTS("events"),
+    SNAPSHOT("snapshot"),
+
+    // ===== 그리기 (한 프레임) =====
+    FRAME("frame"),
+    BACKGROUND("background"),
+    DRAW_MONSTERS("draw monsters"),
+    DRAW_ORBS("draw orbs"),
+    DRAW_PROJECTILES("draw projectiles"),
+    DRAW_TEXTS("draw texts"),
+    HUD("hud");
+
+    public final String label;
+
+    Phase(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,35 @@
+package game.profile;
+
+/**
+ * 프로파일러 한 개의 요약 (기록하는 스레드가 만들어서 통째로 넘긴다, 만든 뒤로는 안 바뀜)
+ * - window : 최근 한 묶음(WINDOW_FRAMES 프레임), total : 켠 뒤로 전체
+ * - 배열은 Phase.ordinal() 번호, 기록이 없던 구간은 null
+ */
+public final class ProfileSummary {
+
+    /** 구간 하나 통계 (ns) */
+    public static final class Stats {
+        public final long count, mean, p50, p90, p99, max;
+
+        Stats(LatencyHistogram h) {
+            count = h.count();
+            mean  = h.mean();
+            p50   = h.percentile(0.50);
+            p90   = h.percentile(0.90);
+            p99   = h.percentile(0.99);
+            max   = h.max();
+        }
+    }
+
+    public final String thread;
+    public final long frames;
+    public final Stats[] window;
+    public final Stats[] total;
+
+    ProfileSummary(String thread, long frames, Stats[] window, Stats[] total) {
+        this.thread = thread;
+        this.frames = frames;
+        this.window = window;
+        this.total = total;
+    }
+}
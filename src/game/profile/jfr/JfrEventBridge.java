@@ -0,0 +1,37 @@
+package game.profile.jfr;
+
+import java.util.function.LongSupplier;
+
+import jdk.jfr.EventType;
+
+import game.event.EventConsumer;
+import game.event.EventQueue;
+
+/**
+ * 전투 이벤트 → JFR 이벤트 (지금은 레벨업만)
+ * - 녹화 중이 아니면 묶음을 훑지도 않는다
+ */
+public class JfrEventBridge implements EventConsumer {
+
+    private static final EventType LEVEL_UP = EventType.getEventType(LevelUpEvent.class);
+
+    private final LongSupplier tick;
+
+    /** tick : 지금 틱 번호 (World::getTickCount) */
+    public JfrEventBridge(LongSupplier tick) {
+        this.tick = tick;
+    }
+
+    @Override
+    public void onEvents(EventQueue events, int count) {
+        if (!LEVEL_UP.isEnabled()) return;
+
+        for (int i = 0; i < count; i++) {
+            if (events.type(i) != game.event.EventType.LEVEL_UP) continue;
+            LevelUpEvent ev = new LevelUpEvent();
+            ev.tick = tick.getAsLong();
+            ev.level = events.value(i);
+            ev.commit();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package game.profile.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import game.profile.LatencyHistogram;
+
+/**
+ * .jfr 녹화 요약 (game.jfc 로 녹화한 파일 기준)
+ * - 틱/프레임 시간 분포, 느린 틱 목록과 그때 GC 멈춤이 겹쳤는지
+ * - GC 멈춤 합/최대, 무기별 공격 수/시간, 스폰/레벨업 수
+ * - 할당 샘플 상위 클래스, 실행 샘플 상위 메서드
+ *
+ *   gradle jfrSummary -Pjfr=build/game.jfr
+ *   java -cp build/classes/java/main game.profile.jfr.JfrSummary game.jfr
+ */
+public final class JfrSummary {
+
+    private static final long SLOW_TICK_NANOS = 1_000_000_000L / 60;   // 한 틱 예산
+    private static final int TOP = 8;
+
+    // 시작~끝 구간 (느린 틱과 GC 멈춤 겹침 검사용)
+    private static final class Span {
+        final long start, end;     // epoch ns
+        final RecordedEvent event;
+
+        Span(RecordedEvent e) {
+            start = nanos(e.getStartTime());
+            end = nanos(e.getEndTime());
+            event = e;
+        }
+    }
+
+    private final LatencyHistogram ticks = new LatencyHistogram();
+    private final LatencyHistogram frames = new LatencyHistogram();
+    private final List<Span> slowTicks = new ArrayList<>();
+    private final List<Span> gcPauses = new ArrayList<>();
+    private long gcCount = 0, gcPauseSum = 0, gcPauseMax = 0;
+
+    private final Map<String, LatencyHistogram> weaponFire = new HashMap<>();
+    private int spawns = 0, levelUps = 0, maxLevel = 0;
+    private long totalKills = 0;
+    private int maxMonsters = 0;
+
+    private final Map<String, Long> allocByClass = new HashMap<>();
+    private final Map<String, Long> samplesByMethod = new HashMap<>();
+    private long executionSamples = 0;
+
+    private JfrSummary() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("사용법: JfrSummary <recording.jfr>");
+            System.exit(2);
+        }
+        JfrSummary summary = new JfrSummary();
+        summary.read(Path.of(args[0]));
+        summary.print();
+    }
+
+    // ----------------------------------------------------
+    // 읽기
+    // ----------------------------------------------------
+    private void read(Path file) throws IOException {
+        try (RecordingFile rf = new RecordingFile(file)) {
+            while (rf.hasMoreEvents()) {
+                RecordedEvent e = rf.readEvent();
+                switch (e.getEventType().getName()) {
+                    case "game.Tick":
+                        onTick(e);
+                        break;
+                    case "game.RenderFrame":
+                        frames.record(e.getDuration().toNanos());
+                        break;
+                    case "game.WeaponFire":
+                        weaponFire.computeIfAbsent(e.getString("weapon") + " lv" + e.getInt("level"),
+                                k -> new LatencyHistogram()).record(e.getDuration().toNanos());
+                        break;
+                    case "game.WaveSpawn":
+                        spawns += e.getInt("spawned");
+                        break;
+                    case "game.LevelUp":
+                        levelUps++;
+                        maxLevel = Math.max(maxLevel, e.getInt("level"));
+                        break;
+                    case "jdk.GarbageCollection":
+                        onGc(e);
+                        break;
+                    case "jdk.GCPhasePause":
+                        gcPauses.add(new Span(e));
+                        break;
+                    case "jdk.ObjectAllocationSample":
+                        onAllocation(e);
+                        break;
+                    case "jdk.ExecutionSample":
+                        onExecutionSample(e);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+    }
+
+    private void onTick(RecordedEvent e) {
+        long d = e.getDuration().toNanos();
+        ticks.record(d);
+        totalKills += e.getInt("kills");
+        maxMonsters = Math.max(maxMonsters, e.getInt("monsters"));
+        if (d > SLOW_TICK_NANOS) slowTicks.add(new Span(e));
+    }
+
+    private void onGc(RecordedEvent e) {
+        gcCount++;
+        long pause = e.getDuration("sumOfPauses").toNanos();
+        gcPauseSum += pause;
+        gcPauseMax = Math.max(gcPauseMax, e.getDuration("longestPause").toNanos());
+    }
+
+    private void onAllocation(RecordedEvent e) {
+        RecordedClass c = e.getClass("objectClass");
+        String name = (c == null) ? "?" : c.getName();
+        allocByClass.merge(name, e.getLong("weight"), Long::sum);
+    }
+
+    private void onExecutionSample(RecordedEvent e) {
+        executionSamples++;
+        RecordedStackTrace st = e.getStackTrace();
+        if (st == null || st.getFrames().isEmpty()) return;
+        RecordedFrame top = st.getFrames().get(0);
+        String name = top.getMethod().getType().getName() + "." + top.getMethod().getName();
+        samplesByMethod.merge(name, 1L, Long::sum);
+    }
+
+    // ----------------------------------------------------
+    // 출력
+    // ----------------------------------------------------
+    private void print() {
+        System.out.println("== 틱 (game.Tick) ==");
+        printHistogram(ticks);
+        System.out.printf(Locale.ROOT, "  kills=%d  maxMonsters=%d  spawns=%d  levelUps=%d (max lv %d)%n",
+                totalKills, maxMonsters, spawns, levelUps, maxLevel);
+
+        System.out.println("== 그리기 (game.RenderFrame) ==");
+        printHistogram(frames);
+
+        System.out.println("== GC ==");
+        System.out.printf(Locale.ROOT, "  collections=%d  pauseSum=%.1fms  longestPause=%.2fms%n",
+                gcCount, gcPauseSum / 1e6, gcPauseMax / 1e6);
+
+        printSlowTicks();
+
+        System.out.println("== 무기 공격 (game.WeaponFire) ==");
+        weaponFire.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(en -> System.out.printf(Locale.ROOT, "  %-12s n=%-6d p50=%.3fms p99=%.3fms max=%.3fms%n",
+                        en.getKey(), en.getValue().count(),
+                        en.getValue().percentile(0.5) / 1e6,
+                        en.getValue().percentile(0.99) / 1e6,
+                        en.getValue().max() / 1e6));
+
+        printTop("== 할당 샘플 상위 (추정 바이트) ==", allocByClass, true);
+        printTop("== 실행 샘플 상위 (" + executionSamples + " 샘플, 맨 위 프레임) ==", samplesByMethod, false);
+    }
+
+    private static void printHistogram(LatencyHistogram h) {
+        if (h.count() == 0) {
+            System.out.println("  (없음)");
+            return;
+        }
+        System.out.printf(Locale.ROOT, "  n=%d  mean=%.3fms  p50=%.3fms  p90=%.3fms  p99=%.3fms  max=%.3fms%n",
+                h.count(), h.mean() / 1e6, h.percentile(0.5) / 1e6, h.percentile(0.9) / 1e6,
+                h.percentile(0.99) / 1e6, h.max() / 1e6);
+    }
+
+    // 한 틱 예산을 넘긴 틱 : GC 멈춤과 겹친 수 + 가장 느린 몇 개
+    private void printSlowTicks() {
+        gcPauses.sort((a, b) -> Long.compare(a.start, b.start));
+        long[] pauseStarts = new long[gcPauses.size()];
+        for (int i = 0; i < pauseStarts.length; i++) pauseStarts[i] = gcPauses.get(i).start;
+
+        int withGc = 0;
+        for (Span t : slowTicks) {
+            if (overlapsPause(t, pauseStarts)) withGc++;
+        }
+        System.out.printf(Locale.ROOT, "== 느린 틱 (> %.1fms) : %d 개, GC 멈춤과 겹침 %d 개 ==%n",
+                SLOW_TICK_NANOS / 1e6, slowTicks.size(), withGc);
+
+        slowTicks.sort((a, b) -> Long.compare(b.end - b.start, a.end - a.start));
+        for (int i = 0; i < Math.min(TOP, slowTicks.size()); i++) {
+            Span t = slowTicks.get(i);
+            RecordedEvent e = t.event;
+            System.out.printf(Locale.ROOT, "  tick %-7d %.2fms  monsters=%d orbs=%d arrows=%d texts=%d%s%n",
+                    e.getLong("tick"), (t.end - t.start) / 1e6,
+                    e.getInt("monsters"), e.getInt("orbs"), e.getInt("arrows"), e.getInt("damageTexts"),
+                    overlapsPause(t, pauseStarts) ? "  [GC]" : "");
+        }
+    }
+
+    private boolean overlapsPause(Span t, long[] pauseStarts) {
+        // t.end 보다 먼저 시작한 멈춤 중 가장 늦은 것부터 거꾸로
+        int i = Arrays.binarySearch(pauseStarts, t.end);
+        if (i < 0) i = -i - 2;
+        for (; i >= 0; i--) {
+            Span p = gcPauses.get(i);
+            if (p.end >= t.start) return true;
+            if (p.start < t.start - Duration.ofSeconds(1).toNanos()) break;   // 1초 넘게 이전이면 그만
+        }
+        return false;
+    }
+
+    private static void printTop(String title, Map<String, Long> counts, boolean bytes) {
+        System.out.println(title);
+        counts.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue(), a.getValue()))
+                .limit(TOP)
+                .forEach(en -> System.out.printf(Locale.ROOT, "  %12s  %s%n",
+                        bytes ? String.format(Locale.ROOT, "%.1f KB", en.getValue() / 1024.0)
+                              : en.getValue().toString(),
+                        en.getKey()));
+    }
+
+    private static long nanos(Instant t) {
+        return t.getEpochSecond() * 1_000_000_000L + t.getNano();
+    }
+}
@@ -0,0 +1,19 @@
+package game.profile.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** 플레이어 레벨업 */
+@Name("game.LevelUp")
+@Label("Level Up")
+@Category({ "Game", "Simulation" })
+public class LevelUpEvent extends Event {
+
+    @Label("Tick")
+    public long tick;
+
+    @Label("Level")
+    public int level;
+}
@@ -0,0 +1,27 @@
+package game.profile.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** EDT 에서 한 프레임 그리기 (paintComponent 전체 시간) */
+@Name("game.RenderFrame")
+@Label("Render Frame")
+@Category({ "Game", "Render" })
+@Description("GamePanel.paintComponent 한 번")
+public class RenderFrameEvent extends Event {
+
+    @Label("Drawn Entities")
+    public int drawn;
+
+    @Label("Culled Entities")
+    public int culled;
+
+    @Label("Monsters Drawn")
+    public int monsters;
+
+    @Label("Damage Texts Drawn")
+    public int texts;
+}
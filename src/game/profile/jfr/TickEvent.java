@@ -0,0 +1,40 @@
+package game.profile.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** 시뮬레이션 한 틱 (World.update 전체 시간 + 틱 끝 엔티티 수) */
+@Name("game.Tick")
+@Label("Tick")
+@Category({ "Game", "Simulation" })
+@Description("World.update 한 번")
+public class TickEvent extends Event {
+
+    @Label("Tick")
+    public long tick;
+
+    @Label("Monsters")
+    public int monsters;
+
+    @Label("Exp Orbs")
+    public int orbs;
+
+    @Label("Arrows")
+    public int arrows;
+
+    @Label("Fireballs")
+    public int fireballs;
+
+    @Label("Damage Texts")
+    public int damageTexts;
+
+    @Label("Kills")
+    @Description("이번 틱에 죽은 몬스터 수")
+    public int kills;
+
+    @Label("Threads")
+    public int threads;
+}
@@ -0,0 +1,32 @@
+package game.profile.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** 웨이브 한 번에 만든 몬스터 무리 (WaveDirector, 예산에 밀리면 한 웨이브가 여러 번에 나뉜다) */
+@Name("game.WaveSpawn")
+@Label("Wave Spawn")
+@Category({ "Game", "Simulation" })
+@Description("웨이브 표대로 몬스터 무리를 만든 것")
+public class WaveSpawnEvent extends Event {
+
+    @Label("Tick")
+    public long tick;
+
+    @Label("Spawned")
+    public int spawned;
+
+    @Label("Monster Type")
+    @Description("몬스터 종류 번호 (-1 이면 마리마다 무작위)")
+    public int monsterType;
+
+    @Label("Shape")
+    public String shape;
+
+    @Label("Monsters Alive")
+    @Description("스폰 뒤 전체 몬스터 수")
+    public int alive;
+}
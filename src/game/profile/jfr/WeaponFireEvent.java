@@ -0,0 +1,29 @@
+package game.profile.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** 무기 한 번 공격 (Weapon.attack 시간 + 바로 맞힌 수 / 만든 투사체 수) */
+@Name("game.WeaponFire")
+@Label("Weapon Fire")
+@Category({ "Game", "Combat" })
+@Description("쿨타임이 돌아와서 Weapon.attack 을 부른 것")
+public class WeaponFireEvent extends Event {
+
+    @Label("Weapon")
+    public String weapon;
+
+    @Label("Level")
+    public int level;
+
+    @Label("Direct Hits")
+    @Description("공격하면서 바로 낸 데미지 이벤트 수 (칼)")
+    public int hits;
+
+    @Label("Projectiles")
+    @Description("새로 만든 화살/파이어볼 수")
+    public int projectiles;
+}
@@ -0,0 +1,47 @@
+package game.render;
+
+import game.combat.Collision;
+
+/**
+ * 월드 좌표 → 화면 좌표 변환 + 화면에 보이는지 판정
+ * - 플레이어가 화면 (screenX, screenY) 에 오도록 월드를 옮긴다
+ * - 화면 = 월드 + offset, 보이는 월드 영역 = (-offsetX, -offsetY, viewW, viewH)
+ */
+public class Camera {
+
+    private int offsetX, offsetY;
+    private int viewW, viewH;
+
+    /** 플레이어 위치와 화면 크기로 카메라 맞추기 (틱/프레임마다) */
+    public void follow(int playerWorldX, int playerWorldY,
+                       int playerScreenX, int playerScreenY,
+                       int viewW, int viewH) {
+        this.offsetX = playerScreenX - playerWorldX;
+        this.offsetY = playerScreenY - playerWorldY;
+        this.viewW = viewW;
+        this.viewH = viewH;
+    }
+
+    public int toScreenX(int worldX) { return worldX + offsetX; }
+    public int toScreenY(int worldY) { return worldY + offsetY; }
+
+    // 보이는 월드 영역
+    public int left()   { return -offsetX; }
+    public int top()    { return -offsetY; }
+    public int width()  { return viewW; }
+    public int height() { return viewH; }
+
+    /**
+     * 월드 사각형(x, y, w, h)이 화면에 걸치는지
+     * - margin : HP 바/글로우처럼 사각형 밖으로 삐져나와 그려지는 만큼
+     */
+    public boolean isVisible(int x, int y, int w, int h, int margin) {
+        return Collision.intersects(x - margin, y - margin, w + margin * 2, h + margin * 2,
+                                    left(), top(), viewW, viewH);
+    }
+
+    /** 중심(cx, cy), 반지름 r 인 것이 화면에 걸치는지 */
+    public boolean isVisibleCentered(int cx, int cy, int r) {
+        return isVisible(cx - r, cy - r, r * 2, r * 2, 0);
+    }
+}
@@ -0,0 +1,104 @@
+package game.render;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * 데미지 숫자 그리기 (글자 아틀라스)
+ * - 숫자 0~9 를 투명도 단계별로 한 장의 이미지에 미리 그려 둔다
+ *   (세로 = 투명도 단계, 가로 = 숫자)
+ * - 숫자 하나 = 자리수만큼 아틀라스에서 잘라 붙이기. Font/문자열/AlphaComposite 생성 없음
+ * - 글자 위치는 drawString 과 같은 기준 (x, y = 기준선 왼쪽)
+ */
+public final class DamageNumberRenderer {
+
+    private static final Font FONT = new Font("맑은 고딕", Font.BOLD, 16);
+    private static final Color COLOR = Color.YELLOW;
+    private static final int ALPHA_STEPS = 16;       // 투명도 단계 (1/15 간격)
+    private static final int MAX_DIGITS = 10;        // int 최대 자리수
+
+    // 아틀라스 (처음 그릴 때 만든다, EDT 에서만 사용)
+    private static Image atlas;
+    private static int cellW, cellH, ascent;
+    private static final int[] advance = new int[10];   // 숫자별 가로 폭
+    private static final int[] digits = new int[MAX_DIGITS];
+
+    private DamageNumberRenderer() {}
+
+    /** 스냅샷의 데미지 텍스트 전부 그리기 (월드 좌표 + 카메라 오프셋) */
+    public static void drawAll(Graphics g, RenderSnapshot s, int camX, int camY) {
+        for (int i = 0; i < s.textCount; i++) {
+            draw(g, s.textX[i] + camX, s.textY[i] + camY, s.textValue[i], s.textAlpha[i]);
+        }
+    }
+
+    /** 숫자 하나 그리기 (alpha 0 이하면 안 그림) */
+    public static void draw(Graphics g, int x, int y, int value, float alpha) {
+        int step = Math.round(Math.min(1f, alpha) * (ALPHA_STEPS - 1));
+        if (step <= 0) return;
+        if (atlas == null) build();
+
+        // 자리수 뽑기 (뒤에서부터)
+        int v = Math.max(0, value);
+        int n = 0;
+        do {
+            digits[n++] = v % 10;
+            v /= 10;
+        } while (v > 0);
+
+        int sy = (step - 1) * cellH;
+        int top = y - ascent;
+        for (int i = n - 1; i >= 0; i--) {
+            int d = digits[i];
+            int sx = d * cellW;
+            // 칸 전체를 붙이고(굵은 글씨 삐침 포함) 다음 자리는 글자 폭만큼 옆으로
+            g.drawImage(atlas, x, top, x + cellW, top + cellH,
+                        sx, sy, sx + cellW, sy + cellH, null);
+            x += advance[d];
+        }
+    }
+
+    // 숫자 10개 × 투명도 단계 만큼 미리 그리기
+    private static void build() {
+        // 글자 크기 재기용 임시 그래픽
+        BufferedImage probe = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D pg = probe.createGraphics();
+        FontMetrics fm = pg.getFontMetrics(FONT);
+        int maxW = 0;
+        for (int d = 0; d < 10; d++) {
+            advance[d] = fm.charWidth((char) ('0' + d));
+            maxW = Math.max(maxW, advance[d]);
+        }
+        ascent = fm.getAscent();
+        cellW = maxW + 1;
+        cellH = fm.getAscent() + fm.getDescent();
+        pg.dispose();
+
+        Image img = createImage(cellW * 10, cellH * (ALPHA_STEPS - 1));
+        Graphics2D g2 = (Graphics2D) img.getGraphics();
+        g2.setFont(FONT);
+        g2.setColor(COLOR);
+        char[] ch = new char[1];
+        for (int step = 1; step < ALPHA_STEPS; step++) {
+            g2.setComposite(AlphaComposite.getInstance(
+                    AlphaComposite.SRC_OVER, step / (float) (ALPHA_STEPS - 1)));
+            int baseY = (step - 1) * cellH + ascent;
+            for (int d = 0; d < 10; d++) {
+                ch[0] = (char) ('0' + d);
+                g2.drawChars(ch, 0, 1, d * cellW, baseY);
+            }
+        }
+        g2.dispose();
+        atlas = img;
+    }
+
+    // 화면 형식에 맞춘 투명 이미지 (헤드리스면 일반 ARGB)
+    private static Image createImage(int w, int h) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            return gc.createCompatibleImage(w, h, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+    }
+}
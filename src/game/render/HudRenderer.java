@@ -0,0 +1,390 @@
+package game.render;
+
+import java.awt.*;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * 상단 HUD (HP/EXP 바 + 레벨 + 킬/시간 + TAB 상태 패널)
+ * - 변하지 않는 틀(박스, 테두리, 바 배경, 아이콘, 안내 문구)은 처음 한 번 이미지로 그려 둔다
+ * - 숫자 글자들은 별도 이미지(글자 레이어)에 그리고, 값이 바뀐 프레임에만 다시 그린다
+ * - HP/EXP 채움도 별도 이미지(바 레이어)에 그리고, 채움 폭이 바뀐 프레임에만 다시 그린다
+ * - 값이 그대로인 프레임은 이미지 네 장 붙이기뿐 → 문자열/Font/Paint 생성 없음
+ * - EDT 에서만 사용
+ */
+public class HudRenderer {
+
+    // ───────── 배치 (화면 좌표) ─────────
+    private static final int HUD_X = 10, HUD_Y = 10, HUD_W = 420, HUD_H = 70;
+    private static final int BAR_X = HUD_X + 16, BAR_Y = HUD_Y + 10;
+    private static final int BAR_W = 260, BAR_H = 16;
+    private static final int EXP_Y = BAR_Y + BAR_H + 6, EXP_H = 10;
+    private static final int PANEL_X = HUD_X, PANEL_Y = HUD_Y + HUD_H + 8;
+    private static final int PANEL_W = 460, PANEL_H = 80;
+    private static final int BARS_H = EXP_Y + EXP_H - BAR_Y;   // HP 바 위 ~ EXP 바 아래
+    private static final int SHINE_W = 40;
+
+    // 레이어 이미지 크기 (HUD + TAB 패널을 모두 덮는 영역, 화면 왼쪽 위 기준)
+    private static final int LAYER_W = PANEL_X + PANEL_W + 4;
+    private static final int LAYER_H = PANEL_Y + PANEL_H + 4;
+    private static final int CLOSED_H = HUD_Y + HUD_H + 20;        // 닫힌 힌트 줄까지
+
+    private static final Font FONT_SMALL = new Font("맑은 고딕", Font.BOLD, 12);
+    private static final Font FONT_LEVEL = new Font("맑은 고딕", Font.BOLD, 16);
+    private static final Font FONT_PANEL = new Font("맑은 고딕", Font.PLAIN, 14);
+    private static final Font FONT_HINT  = new Font("맑은 고딕", Font.PLAIN, 11);
+
+    // 채움 그라데이션은 위치가 고정이라 한 번만 만든다
+    private static final GradientPaint HP_FILL = new GradientPaint(
+            BAR_X, BAR_Y, new Color(220, 60, 60),
+            BAR_X + BAR_W, BAR_Y + BAR_H, new Color(140, 0, 0));
+    private static final GradientPaint EXP_FILL = new GradientPaint(
+            BAR_X, EXP_Y, new Color(160, 120, 255),
+            BAR_X + BAR_W, EXP_Y + EXP_H, new Color(90, 40, 200));
+
+    private static final BasicStroke BAR_BORDER = new BasicStroke(2f);
+    private static final Color HP_BORDER   = new Color(0, 0, 0, 200);
+    private static final Color EXP_BORDER  = new Color(0, 0, 0, 180);
+    private static final Color SHADOW_HP   = new Color(0, 0, 0, 180);
+    private static final Color SHADOW_EXP  = new Color(0, 0, 0, 170);
+    private static final Color EXP_TEXT    = new Color(230, 220, 255);
+    private static final Color LEVEL_TEXT  = new Color(255, 230, 180);
+    private static final Color STAT_TEXT   = new Color(220, 220, 220);
+    private static final Color PASSIVE_TEXT = new Color(220, 220, 255);
+
+    // 틀 (창 크기와 무관, 처음 그릴 때 만든다)
+    private Image frameClosed;    // HUD 박스 + 바 배경 + "[TAB] : 상태 보기"
+    private Image frameOpen;      // HUD 박스 + 바 배경 + TAB 패널 틀/아이콘/안내
+    private Image shine;          // HP 바 위로 지나가는 반짝이
+
+    // 바 레이어 (HP/EXP 채움 + 테두리) + 마지막 채움 폭
+    private Image barLayer;
+    private int lastHpW = -1, lastExpW = -1;
+
+    // 글자 레이어 + 마지막으로 그린 값 (다르면 다시 그림)
+    private Image textLayer;
+    private boolean textDirty = true;
+    private int lastHp = -1, lastMaxHp = -1, lastExp = -1, lastExpToNext = -1;
+    private int lastLevel = -1, lastKills = -1, lastSec = -1;
+    private int lastAtk = -1, lastSpd = -1, lastHpLv = -1;
+    private String lastWeapons;
+    private boolean lastOpen;
+
+    /** HUD 그리기 (showStatusPanel : TAB 패널 열림 여부) */
+    public void draw(Graphics g, RenderSnapshot s, boolean showStatusPanel) {
+        if (frameClosed == null) buildStatic();
+
+        // 틀/글자 레이어는 패널이 닫혀 있으면 HUD 박스 + 힌트 줄까지만 붙인다
+        int usedH = showStatusPanel ? LAYER_H : CLOSED_H;
+
+        // 1) 틀
+        blit(g, showStatusPanel ? frameOpen : frameClosed, 0, 0, LAYER_W, usedH);
+
+        // 2) HP/EXP 채움 + 테두리 (채움 폭이 바뀌었을 때만 다시 그림)
+        updateBarLayer(s);
+        blit(g, barLayer, BAR_X - 2, BAR_Y - 2, BAR_W + 4, BARS_H + 4);
+
+        // 3) HP 바 위로 지나가는 반짝이는 라인
+        int sx = BAR_X + (s.uiTick % (BAR_W + SHINE_W)) - SHINE_W;
+        g.drawImage(shine, sx, BAR_Y, null);
+
+        // 4) 글자 (값이 바뀌었을 때만 다시 그림)
+        updateTextLayer(s, showStatusPanel);
+        blit(g, textLayer, 0, 0, LAYER_W, usedH);
+    }
+
+    // 레이어의 (x, y, w, h) 부분만 같은 위치에 붙이기
+    private static void blit(Graphics g, Image img, int x, int y, int w, int h) {
+        g.drawImage(img, x, y, x + w, y + h, x, y, x + w, y + h, null);
+    }
+
+    // ----------------------------------------------------
+    // 바 레이어
+    // ----------------------------------------------------
+    private void updateBarLayer(RenderSnapshot s) {
+        // HP (애니메이션 값 사용)
+        double hpRatio = s.uiHpDisplay / s.playerMaxHp;
+        hpRatio = Math.max(0.0, Math.min(1.0, hpRatio));
+        int hpW = (int) (BAR_W * hpRatio);
+
+        // EXP (애니메이션된 비율 0.0 ~ 1.0)
+        double expRatio = Math.max(0.0, Math.min(1.0, s.uiExpDisplay));
+        int expW = (int) (BAR_W * expRatio);
+
+        if (hpW == lastHpW && expW == lastExpW) return;
+        lastHpW = hpW;
+        lastExpW = expW;
+
+        Graphics2D g2 = (Graphics2D) barLayer.getGraphics();
+        g2.setComposite(AlphaComposite.Clear);
+        g2.fillRect(BAR_X - 2, BAR_Y - 2, BAR_W + 4, BARS_H + 4);
+        g2.setComposite(AlphaComposite.SrcOver);
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                            RenderingHints.VALUE_ANTIALIAS_ON);
+
+        g2.setPaint(HP_FILL);
+        g2.fillRoundRect(BAR_X, BAR_Y, hpW, BAR_H, 12, 12);
+        g2.setPaint(EXP_FILL);
+        g2.fillRoundRect(BAR_X, EXP_Y, expW, EXP_H, 10, 10);
+
+        // 테두리 (HUD 테두리와 같은 굵기)
+        g2.setStroke(BAR_BORDER);
+        g2.setColor(HP_BORDER);
+        g2.drawRoundRect(BAR_X, BAR_Y, BAR_W, BAR_H, 12, 12);
+        g2.setColor(EXP_BORDER);
+        g2.drawRoundRect(BAR_X, EXP_Y, BAR_W, EXP_H, 10, 10);
+
+        g2.dispose();
+    }
+
+    // ----------------------------------------------------
+    // 글자 레이어
+    // ----------------------------------------------------
+    private void updateTextLayer(RenderSnapshot s, boolean open) {
+        int hp = (int) Math.round(s.uiHpDisplay);
+        if (hp != lastHp || s.playerMaxHp != lastMaxHp
+                || s.playerExp != lastExp || s.playerExpToNext != lastExpToNext
+                || s.playerLevel != lastLevel || s.killCount != lastKills
+                || s.elapsedSec != lastSec || open != lastOpen) {
+            textDirty = true;
+        }
+        if (open && (s.attackLevel != lastAtk || s.speedLevel != lastSpd
+                || s.maxHpLevel != lastHpLv || s.weaponStatus != lastWeapons)) {
+            textDirty = true;
+        }
+        if (!textDirty) return;
+
+        lastHp = hp;
+        lastMaxHp = s.playerMaxHp;
+        lastExp = s.playerExp;
+        lastExpToNext = s.playerExpToNext;
+        lastLevel = s.playerLevel;
+        lastKills = s.killCount;
+        lastSec = s.elapsedSec;
+        lastAtk = s.attackLevel;
+        lastSpd = s.speedLevel;
+        lastHpLv = s.maxHpLevel;
+        lastWeapons = s.weaponStatus;
+        lastOpen = open;
+        textDirty = false;
+
+        Graphics2D g2 = (Graphics2D) textLayer.getGraphics();
+        g2.setComposite(AlphaComposite.Clear);
+        g2.fillRect(0, 0, LAYER_W, LAYER_H);
+        g2.setComposite(AlphaComposite.SrcOver);
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                            RenderingHints.VALUE_ANTIALIAS_ON);
+
+        // HP 수치 (예: 80 / 100) : 검은 그림자 + 흰 글씨
+        g2.setFont(FONT_SMALL);
+        FontMetrics fm = g2.getFontMetrics();
+        String hpText = hp + " / " + s.playerMaxHp;
+        int hpX = BAR_X + (BAR_W - fm.stringWidth(hpText)) / 2;
+        g2.setColor(SHADOW_HP);
+        g2.drawString(hpText, hpX + 1, BAR_Y + BAR_H - 4 + 1);
+        g2.setColor(Color.WHITE);
+        g2.drawString(hpText, hpX, BAR_Y + BAR_H - 4);
+
+        // EXP 수치 (예: 10 / 50)
+        String expText = s.playerExp + " / " + s.playerExpToNext;
+        int expX = BAR_X + (BAR_W - fm.stringWidth(expText)) / 2;
+        g2.setColor(SHADOW_EXP);
+        g2.drawString(expText, expX + 1, EXP_Y + 9);
+        g2.setColor(EXP_TEXT);
+        g2.drawString(expText, expX, EXP_Y + 8);
+
+        // 왼쪽에 현재 레벨
+        g2.setFont(FONT_LEVEL);
+        g2.setColor(LEVEL_TEXT);
+        g2.drawString("Lv " + s.playerLevel, HUD_X + 20, HUD_Y + HUD_H - 12);
+
+        // Kill / Time (우측)
+        int sec = s.elapsedSec;
+        g2.setColor(STAT_TEXT);
+        g2.drawString("Kill: " + s.killCount, HUD_X + HUD_W - 130, HUD_Y + 26);
+        g2.drawString("Time: " + twoDigits(sec / 60) + ":" + twoDigits(sec % 60),
+                      HUD_X + HUD_W - 130, HUD_Y + 46);
+
+        // TAB 상태 패널 글자
+        if (open) {
+            int y = PANEL_Y + 24;
+            g2.setFont(FONT_PANEL);
+
+            // 레벨 / 경험치
+            g2.setColor(Color.WHITE);
+            g2.drawString("Lv " + s.playerLevel
+                          + "   EXP " + s.playerExp + "/" + s.playerExpToNext,
+                          PANEL_X + 18, y);
+
+            // 패시브 (아이콘은 틀에 있음)
+            y += 18;
+            g2.setColor(PASSIVE_TEXT);
+            g2.drawString("ATK +" + (s.attackLevel * 20) + "%", PANEL_X + 34, y);
+            g2.drawString("SPD +" + s.speedLevel, PANEL_X + 162, y);
+            g2.drawString("HP +" + (s.maxHpLevel * 20), PANEL_X + 272, y);
+
+            // 무기 현황
+            y += 18;
+            g2.setColor(LEVEL_TEXT);
+            g2.drawString("Weapons  " + s.weaponStatus, PANEL_X + 18, y);
+        }
+
+        g2.dispose();
+    }
+
+    private static String twoDigits(int v) {
+        return v < 10 ? "0" + v : Integer.toString(v);
+    }
+
+    // ----------------------------------------------------
+    // 틀 (한 번만)
+    // ----------------------------------------------------
+    private void buildStatic() {
+        frameClosed = createLayer(LAYER_W, LAYER_H);
+        frameOpen   = createLayer(LAYER_W, LAYER_H);
+        barLayer    = createLayer(LAYER_W, LAYER_H);
+        textLayer   = createLayer(LAYER_W, LAYER_H);
+        shine       = createLayer(SHINE_W, BAR_H);
+
+        Graphics2D g2 = begin(frameClosed);
+        paintHudBox(g2);
+        // 닫혀 있을 때 작은 힌트
+        g2.setFont(FONT_HINT);
+        g2.setColor(new Color(255, 255, 255, 120));
+        g2.drawString("[TAB] : 상태 보기", HUD_X + 20, HUD_Y + HUD_H + 14);
+        g2.dispose();
+
+        g2 = begin(frameOpen);
+        paintHudBox(g2);
+        paintPanelFrame(g2);
+        g2.dispose();
+
+        g2 = begin(shine);
+        g2.setPaint(new GradientPaint(
+                0, 0, new Color(255, 255, 255, 80),
+                SHINE_W, BAR_H, new Color(255, 255, 255, 0)));
+        g2.fillRoundRect(0, 0, SHINE_W, BAR_H, 12, 12);
+        g2.dispose();
+    }
+
+    // 상단 HUD 박스 + HP/EXP 바 배경
+    private static void paintHudBox(Graphics2D g2) {
+        Shape hudRect = new RoundRectangle2D.Float(HUD_X, HUD_Y, HUD_W, HUD_H, 18, 18);
+
+        // 어두운 반투명 박스 + 살짝 빛나는 테두리
+        g2.setPaint(new GradientPaint(
+                HUD_X, HUD_Y, new Color(10, 10, 10, 200),
+                HUD_X, HUD_Y + HUD_H, new Color(20, 20, 20, 230)));
+        g2.fill(hudRect);
+
+        g2.setColor(new Color(255, 255, 255, 60));
+        g2.setStroke(new BasicStroke(2f));
+        g2.draw(hudRect);
+        g2.setStroke(new BasicStroke(1f));
+
+        // HP 바 배경 / EXP 바 배경
+        g2.setColor(new Color(40, 40, 40));
+        g2.fillRoundRect(BAR_X, BAR_Y, BAR_W, BAR_H, 12, 12);
+        g2.setColor(new Color(35, 35, 35));
+        g2.fillRoundRect(BAR_X, EXP_Y, BAR_W, EXP_H, 10, 10);
+    }
+
+    // TAB 상태 패널 박스 + 패시브 아이콘 + 안내 문구
+    private static void paintPanelFrame(Graphics2D g2) {
+        Shape panelRect = new RoundRectangle2D.Float(PANEL_X, PANEL_Y, PANEL_W, PANEL_H, 18, 18);
+
+        g2.setPaint(new GradientPaint(
+                PANEL_X, PANEL_Y, new Color(0, 0, 0, 210),
+                PANEL_X, PANEL_Y + PANEL_H, new Color(0, 0, 0, 235)));
+        g2.fill(panelRect);
+
+        g2.setColor(new Color(255, 255, 255, 80));
+        g2.setStroke(new BasicStroke(2f));
+        g2.draw(panelRect);
+
+        // 패시브 아이콘 (ATK / SPD / HP)
+        int iconY = PANEL_Y + 24 + 18 - 10;
+        drawSwordIcon(g2, PANEL_X + 22, iconY, 12);
+        drawBootIcon(g2, PANEL_X + 150, iconY, 12);
+        drawHeartIcon(g2, PANEL_X + 260, iconY, 12);
+
+        // 안내 문구
+        g2.setFont(FONT_HINT);
+        g2.setColor(new Color(255, 255, 255, 140));
+        g2.drawString("[TAB] : 상태 패널 토글", PANEL_X + 18, PANEL_Y + PANEL_H - 10);
+    }
+
+    private static Graphics2D begin(Image img) {
+        Graphics2D g2 = (Graphics2D) img.getGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                            RenderingHints.VALUE_ANTIALIAS_ON);
+        return g2;
+    }
+
+    // 화면 형식에 맞춘 투명 이미지 (헤드리스면 일반 ARGB)
+    private static Image createLayer(int w, int h) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            return gc.createCompatibleImage(w, h, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    // ─────────────────────────────────────
+    // 작은 UI 아이콘들 (하트 / 검 / 부츠)
+    // ─────────────────────────────────────
+    private static void drawHeartIcon(Graphics2D g2, int cx, int cy, int size) {
+        int w = size;
+        int h = size;
+        int x = cx - w / 2;
+        int y = cy - h / 2;
+
+        g2.setColor(new Color(220, 40, 70));
+        g2.fillOval(x, y, w / 2, h / 2);
+        g2.fillOval(x + w / 2, y, w / 2, h / 2);
+
+        Polygon p = new Polygon();
+        p.addPoint(x, y + h / 4);
+        p.addPoint(x + w, y + h / 4);
+        p.addPoint(x + w / 2, y + h);
+        g2.fillPolygon(p);
+
+        g2.setColor(new Color(120, 0, 30));
+        g2.setStroke(new BasicStroke(1f));
+        g2.drawPolygon(p);
+    }
+
+    private static void drawSwordIcon(Graphics2D g2, int cx, int cy, int size) {
+        int bladeLen = size;
+        int bladeW   = size / 4;
+
+        int x = cx - bladeW / 2;
+        int y = cy - bladeLen / 2;
+
+        // 칼날
+        g2.setColor(new Color(200, 200, 220));
+        g2.fillRoundRect(x, y, bladeW, bladeLen, 4, 4);
+
+        // 손잡이
+        g2.setColor(new Color(120, 80, 40));
+        g2.fillRect(cx - size / 2, cy + bladeLen / 2 - 2, size, 4);
+    }
+
+    private static void drawBootIcon(Graphics2D g2, int cx, int cy, int size) {
+        int w = size;
+        int h = size;
+        int x = cx - w / 2;
+        int y = cy - h / 2;
+
+        g2.setColor(new Color(150, 110, 60));
+        g2.fillRoundRect(x, y + h / 4, w, h / 2, 4, 4);
+
+        // 앞코
+        g2.fillRoundRect(x + w / 2, y + h / 2, w / 2, h / 3, 4, 4);
+
+        g2.setColor(new Color(90, 60, 30));
+        g2.setStroke(new BasicStroke(1f));
+        g2.drawRoundRect(x, y + h / 4, w, h / 2, 4, 4);
+    }
+}
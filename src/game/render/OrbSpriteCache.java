@@ -0,0 +1,98 @@
+package game.render;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * 경험치 구슬 스프라이트 미리 그려 두기
+ * - 펄스 한 주기(90틱)의 각 단계를 처음 한 번만 그리고, 이후 구슬 하나는 drawImage 한 번
+ * - 펄스 반지름은 정수라 실제로 다른 그림은 몇 장뿐 → 같은 반지름 프레임은 이미지를 공유
+ * - 화면과 같은 픽셀 형식(compatible image)으로 만들어서 그릴 때 변환이 없도록
+ */
+public final class OrbSpriteCache {
+
+    public static final int BASE_RADIUS = 6;
+    public static final int PULSE_PERIOD = 90;        // sin(tick * 4°) 한 바퀴
+    private static final int GLOW = 6;                // 글로우가 구슬보다 큰 만큼
+
+    // 가장 큰 펄스(1.25배) 글로우 + 테두리 여유
+    private static final int MAX_RADIUS = (int) (BASE_RADIUS * 1.25);
+    public static final int SIZE = (MAX_RADIUS + GLOW + 2) * 2;
+    public static final int HALF = SIZE / 2;
+
+    private static final Color GLOW_COLOR      = new Color(80, 255, 160, 80);
+    private static final Color TOP_COLOR       = new Color(200, 255, 230);
+    private static final Color BOTTOM_COLOR    = new Color(60, 220, 130);
+    private static final Color OUTLINE_COLOR   = new Color(20, 100, 70);
+    private static final Color HIGHLIGHT_COLOR = new Color(255, 255, 255, 180);
+    private static final BasicStroke OUTLINE   = new BasicStroke(1.5f);
+
+    private static Image[] frames;   // 틱 % PULSE_PERIOD → 이미지 (EDT 에서만 사용)
+
+    private OrbSpriteCache() {}
+
+    /** 펄스 단계별 반지름 (0.75 ~ 1.25배) */
+    public static int radiusAt(int tick) {
+        double pulse = 1.0 + 0.25 * Math.sin(Math.toRadians(tick * 4));
+        return (int) (BASE_RADIUS * pulse);
+    }
+
+    /** tick 단계 프레임 (중심이 (HALF, HALF) 인 SIZE×SIZE 이미지) */
+    public static Image frame(int tick) {
+        if (frames == null) frames = build();
+        return frames[Math.floorMod(tick, PULSE_PERIOD)];
+    }
+
+    private static Image[] build() {
+        Image[] out = new Image[PULSE_PERIOD];
+        Image[] byRadius = new Image[MAX_RADIUS + 1];
+        for (int t = 0; t < PULSE_PERIOD; t++) {
+            int r = radiusAt(t);
+            if (byRadius[r] == null) {
+                Image img = createImage();
+                Graphics2D g2 = (Graphics2D) img.getGraphics();
+                paint(g2, HALF, HALF, r);
+                g2.dispose();
+                byRadius[r] = img;
+            }
+            out[t] = byRadius[r];
+        }
+        return out;
+    }
+
+    // 화면 형식에 맞춘 투명 이미지 (헤드리스면 일반 ARGB)
+    private static Image createImage() {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            return gc.createCompatibleImage(SIZE, SIZE, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /** 구슬 하나를 직접 그리기 (프레임 굽기용, 캐시 없는 비교 기준) */
+    public static void paint(Graphics2D g2, int cx, int cy, int radius) {
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                            RenderingHints.VALUE_ANTIALIAS_ON);
+
+        // 1) 바깥쪽 부드러운 빛(글로우)
+        int glowR = radius + GLOW;
+        g2.setColor(GLOW_COLOR);
+        g2.fillOval(cx - glowR, cy - glowR, glowR * 2, glowR * 2);
+
+        // 2) 메인 구슬 (그라데이션)
+        g2.setPaint(new GradientPaint(
+                cx, cy - radius, TOP_COLOR,
+                cx, cy + radius, BOTTOM_COLOR));
+        g2.fillOval(cx - radius, cy - radius, radius * 2, radius * 2);
+
+        // 3) 테두리
+        g2.setColor(OUTLINE_COLOR);
+        g2.setStroke(OUTLINE);
+        g2.drawOval(cx - radius, cy - radius, radius * 2, radius * 2);
+
+        // 4) 하이라이트 (작은 반달)
+        g2.setColor(HIGHLIGHT_COLOR);
+        g2.fillOval(cx - radius / 2, cy - radius, radius, radius);
+    }
+}
@@ -0,0 +1,127 @@
+package game.render;
+
+import java.awt.*;
+import java.util.Locale;
+
+import game.profile.Phase;
+import game.profile.ProfileSummary;
+
+/**
+ * F3 프로파일러 오버레이 (화면 오른쪽 위)
+ * - 구간마다 최근 1초 p50 / p99 / max (ms) + 엔티티 수 (전체 / 화면에 그린 것 / 컬링한 것)
+ * - 구간 줄은 요약이 새로 나올 때(약 1초마다)만 문자열을 다시 만든다
+ * - EDT 에서만 사용
+ */
+public class ProfilerOverlay {
+
+    private static final int W = 300;
+    private static final int LINE_H = 14;
+    private static final int PAD = 6;
+
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private static final Color BACK   = new Color(0, 0, 0, 170);
+    private static final Color TITLE  = new Color(255, 230, 120);
+    private static final Color TEXT   = new Color(220, 220, 220);
+    private static final Color SLOW   = new Color(255, 120, 110);   // p99 가 한 틱(16.7ms) 을 넘는 구간
+
+    private static final long SLOW_NANOS = 1_000_000_000L / 60;
+
+    // 구간 줄과 같은 칸 맞춤
+    private static final String HEADER = String.format(Locale.ROOT, "%-17s %6s %6s %6s",
+            "PROFILER [F3] ms", "p50", "p99", "max");
+
+    // 구간 줄 캐시 (요약 객체가 바뀌면 다시 만든다)
+    private ProfileSummary lastSim, lastRender;
+    private String[] lines = new String[0];
+    private boolean[] slow = new boolean[0];
+
+    // 엔티티 줄 캐시
+    private String countLine = "", cullLine = "";
+    private int lastMonsters = -1, lastOrbs = -1, lastArrows = -1, lastFireballs = -1, lastTexts = -1;
+    private int lastDrawn = -1, lastCulled = -1;
+
+    public void draw(Graphics g, RenderSnapshot s, int screenW,
+                     ProfileSummary sim, ProfileSummary render) {
+        if (sim != lastSim || render != lastRender) {
+            rebuildLines(sim, render);
+            lastSim = sim;
+            lastRender = render;
+        }
+        updateCountLines(s);
+
+        int rows = 1 + lines.length + 2;
+        int x = screenW - W - 10, y = 10;
+        int h = rows * LINE_H + PAD * 2;
+
+        g.setColor(BACK);
+        g.fillRect(x, y, W, h);
+        g.setFont(FONT);
+
+        int ty = y + PAD + LINE_H - 3;
+        g.setColor(TITLE);
+        g.drawString(HEADER, x + PAD, ty);
+        for (int i = 0; i < lines.length; i++) {
+            ty += LINE_H;
+            g.setColor(slow[i] ? SLOW : TEXT);
+            g.drawString(lines[i], x + PAD, ty);
+        }
+        g.setColor(TEXT);
+        ty += LINE_H;
+        g.drawString(countLine, x + PAD, ty);
+        ty += LINE_H;
+        g.drawString(cullLine, x + PAD, ty);
+    }
+
+    private void rebuildLines(ProfileSummary sim, ProfileSummary render) {
+        int n = countPhases(sim) + countPhases(render);
+        if (n == 0) {
+            lines = new String[] { "(collecting...)" };
+            slow = new boolean[1];
+            return;
+        }
+        lines = new String[n];
+        slow = new boolean[n];
+        int k = fill(sim, 0);
+        fill(render, k);
+    }
+
+    private static int countPhases(ProfileSummary s) {
+        if (s == null) return 0;
+        int n = 0;
+        for (ProfileSummary.Stats st : s.window) {
+            if (st != null && st.count > 0) n++;
+        }
+        return n;
+    }
+
+    private int fill(ProfileSummary s, int k) {
+        if (s == null) return k;
+        for (Phase phase : Phase.values()) {
+            ProfileSummary.Stats st = s.window[phase.ordinal()];
+            if (st == null || st.count == 0) continue;
+            lines[k] = String.format(Locale.ROOT, "%-17s %6.2f %6.2f %6.2f",
+                    phase.label, st.p50 / 1e6, st.p99 / 1e6, st.max / 1e6);
+            slow[k] = st.p99 > SLOW_NANOS;
+            k++;
+        }
+        return k;
+    }
+
+    private void updateCountLines(RenderSnapshot s) {
+        if (s.monsterTotal != lastMonsters || s.orbTotal != lastOrbs || s.arrowTotal != lastArrows
+                || s.fireballTotal != lastFireballs || s.textTotal != lastTexts) {
+            lastMonsters = s.monsterTotal;
+            lastOrbs = s.orbTotal;
+            lastArrows = s.arrowTotal;
+            lastFireballs = s.fireballTotal;
+            lastTexts = s.textTotal;
+            countLine = "mon " + lastMonsters + " orb " + lastOrbs + " arr " + lastArrows
+                    + " fb " + lastFireballs + " txt " + lastTexts;
+        }
+        if (s.drawnEntities != lastDrawn || s.culledEntities != lastCulled) {
+            lastDrawn = s.drawnEntities;
+            lastCulled = s.culledEntities;
+            cullLine = "drawn " + lastDrawn + "  culled " + lastCulled;
+        }
+    }
+}
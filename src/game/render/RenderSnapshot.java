@@ -0,0 +1,126 @@
+package game.render;
+
+import java.util.Arrays;
+
+import game.combat.Weapon;
+import game.combat.WeaponType;
+import game.state.GameState;
+
+/**
+ * 한 프레임을 그리는 데 필요한 값만 복사해 둔 스냅샷
+ * - 시뮬레이션 스레드가 채우고 SnapshotExchange 로 EDT 에 넘긴다
+ * - EDT 는 게임 객체를 직접 보지 않고 이 값만 읽어서 그린다
+ * - 배열은 재사용하고 부족할 때만 늘린다
+ */
+public class RenderSnapshot {
+
+    // ===== 상태 =====
+    public GameState gameState = GameState.RUNNING;
+    public boolean waitingWeaponSelect = true;
+    public int levelUpMessageTimer;
+
+    // ===== 플레이어 =====
+    public int playerWorldX, playerWorldY;
+    public int playerScreenX, playerScreenY;
+    public int playerWidth, playerHeight;
+    public int playerHp, playerMaxHp;
+    public int playerLevel, playerExp, playerExpToNext;
+    public int attackLevel, speedLevel, maxHpLevel;
+    public String weaponStatus = "None";
+
+    // 무기 종류(ordinal)별 레벨 / 이펙트 남은 프레임 (없으면 0)
+    public final int[] weaponLevels  = new int[WeaponType.values().length];
+    public final int[] weaponEffects = new int[WeaponType.values().length];
+    // 무기 종류별 그리기 담당 (보유 안 했으면 null, draw 는 스냅샷 값만 읽는다)
+    public final Weapon[] weapons = new Weapon[WeaponType.values().length];
+
+    // ===== HUD =====
+    public double uiHpDisplay, uiExpDisplay;
+    public int uiTick;
+    public int killCount;
+    public int elapsedSec;
+
+    // ===== 컬링 통계 (이번 프레임에 그릴 것 / 화면 밖이라 뺀 것) =====
+    public int drawnEntities, culledEntities;
+
+    // ===== 전체 개수 (화면 밖 포함, 프로파일러 오버레이용) =====
+    public int monsterTotal, orbTotal, arrowTotal, fireballTotal, textTotal;
+
+    // ===== 몬스터 (월드 좌표, 화면에 보이는 것만) =====
+    public int monsterCount;
+    public int[] monsterX = new int[64], monsterY = new int[64];
+    public int[] monsterHp = new int[64], monsterMaxHp = new int[64];
+    public int[] monsterType = new int[64];
+
+    // ===== 경험치 구슬 (월드 좌표, 중심) =====
+    public int orbCount;
+    public int[] orbX = new int[64], orbY = new int[64], orbTick = new int[64];
+
+    // ===== 화살 (월드 좌표, 중심) =====
+    public int arrowCount;
+    public int[] arrowX = new int[32], arrowY = new int[32];
+
+    // ===== 파이어볼 (월드 좌표, 중심) =====
+    public int fireballCount;
+    public int[] fireballX = new int[16], fireballY = new int[16];
+    public int[] fireballRadius = new int[16], fireballTimer = new int[16];
+    public boolean[] fireballExploded = new boolean[16];
+
+    // ===== 데미지 텍스트 (월드 좌표) =====
+    public int textCount;
+    public int[] textX = new int[64], textY = new int[64], textValue = new int[64];
+    public float[] textAlpha = new float[64];
+
+    // ----------------------------------------------------
+    // 용량 확보 (채우기 전에 한 번씩 호출)
+    // ----------------------------------------------------
+    public void ensureMonsters(int n) {
+        if (n <= monsterX.length) return;
+        int cap = grow(monsterX.length, n);
+        monsterX = Arrays.copyOf(monsterX, cap);
+        monsterY = Arrays.copyOf(monsterY, cap);
+        monsterHp = Arrays.copyOf(monsterHp, cap);
+        monsterMaxHp = Arrays.copyOf(monsterMaxHp, cap);
+        monsterType = Arrays.copyOf(monsterType, cap);
+    }
+
+    public void ensureOrbs(int n) {
+        if (n <= orbX.length) return;
+        int cap = grow(orbX.length, n);
+        orbX = Arrays.copyOf(orbX, cap);
+        orbY = Arrays.copyOf(orbY, cap);
+        orbTick = Arrays.copyOf(orbTick, cap);
+    }
+
+    public void ensureArrows(int n) {
+        if (n <= arrowX.length) return;
+        int cap = grow(arrowX.length, n);
+        arrowX = Arrays.copyOf(arrowX, cap);
+        arrowY = Arrays.copyOf(arrowY, cap);
+    }
+
+    public void ensureFireballs(int n) {
+        if (n <= fireballX.length) return;
+        int cap = grow(fireballX.length, n);
+        fireballX = Arrays.copyOf(fireballX, cap);
+        fireballY = Arrays.copyOf(fireballY, cap);
+        fireballRadius = Arrays.copyOf(fireballRadius, cap);
+        fireballTimer = Arrays.copyOf(fireballTimer, cap);
+        fireballExploded = Arrays.copyOf(fireballExploded, cap);
+    }
+
+    public void ensureTexts(int n) {
+        if (n <= textX.length) return;
+        int cap = grow(textX.length, n);
+        textX = Arrays.copyOf(textX, cap);
+        textY = Arrays.copyOf(textY, cap);
+        textValue = Arrays.copyOf(textValue, cap);
+        textAlpha = Arrays.copyOf(textAlpha, cap);
+    }
+
+    private static int grow(int cur, int need) {
+        int cap = Math.max(cur, 16);
+        while (cap < need) cap *= 2;
+        return cap;
+    }
+}
@@ -0,0 +1,41 @@
+package game.render;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시뮬레이션 스레드 → EDT 스냅샷 전달 (트리플 버퍼)
+ * - 생산자는 back() 을 채운 뒤 publish(), 소비자는 latest() 로 가장 최근 것을 받는다
+ * - 양쪽이 같은 버퍼를 동시에 만지는 일이 없어서 락이 필요 없다
+ */
+public class SnapshotExchange {
+
+    private static final int FRESH = 4;
+
+    private final RenderSnapshot[] buffers = {
+            new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()
+    };
+
+    // 가운데 버퍼 인덱스 + 새 프레임 여부(FRESH 비트)
+    private final AtomicInteger middle = new AtomicInteger(1);
+
+    private int backIdx  = 0;   // 생산자 전용
+    private int frontIdx = 2;   // 소비자 전용
+
+    /** 생산자 : 이번에 채울 버퍼 */
+    public RenderSnapshot back() {
+        return buffers[backIdx];
+    }
+
+    /** 생산자 : 채운 버퍼를 내보내고 다음 back 을 받는다 */
+    public void publish() {
+        backIdx = middle.getAndSet(backIdx | FRESH) & 3;
+    }
+
+    /** 소비자 : 새 프레임이 있으면 바꿔 들고, 없으면 직전 프레임 그대로 */
+    public RenderSnapshot latest() {
+        if ((middle.get() & FRESH) != 0) {
+            frontIdx = middle.getAndSet(frontIdx) & 3;
+        }
+        return buffers[frontIdx];
+    }
+}
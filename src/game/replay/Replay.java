@@ -0,0 +1,243 @@
+package game.replay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import game.combat.WeaponType;
+import game.sim.World;
+import game.world.WaveTable;
+
+/**
+ * 녹화된 한 판 (시드 + 시작 무기 + 판 설정 + 기록 한 줄에 1 바이트)
+ * - 판 설정(Settings) : 시뮬레이션 결과를 바꾸는 실행 옵션 (몬스터 수 상한, 옮기는 거리, 구슬 수 상한, 스폰 예산, 웨이브 표)
+ *   → 재생할 때 그대로 적용해서 -D 옵션을 바꿔 녹화한 판도 같은 결과가 나온다
+ *
+ * 기록 바이트
+ * - 0~3 비트 : 그 틱 입력 (PlayerInput.UP / DOWN / LEFT / RIGHT)
+ * - 4~5 비트 : 그 틱 전에 고른 레벨업 선택지 + 1 (0 이면 선택 없음)
+ * - 6 비트   : NO_TICK → 선택만 하고 틱은 진행 안 함 (판이 끝난 뒤 고른 선택 등)
+ *
+ * 파일 (빅 엔디안)
+ *   int 'VSRP', short 버전, long 시드, byte 시작 무기 (-1 없음)
+ *   int 몬스터 수 상한, int 옮기는 거리, int 구슬 수 상한, int 초당 스폰 예산, int 웨이브 표 길이 + UTF-8 웨이브 표 글
+ *   int 기록 수
+ *   같은 바이트 묶음 [byte 값][varint 반복 수] ...   ← 같은 입력이 길게 이어지므로 보통 수 KB
+ *   int 체크포인트 수, (long 틱, long 다이제스트) ...
+ *   long 마지막 틱, long 마지막 다이제스트
+ */
+public final class Replay {
+
+    public static final int MAGIC = 0x56535250;   // "VSRP"
+    public static final int VERSION = 3;   // 2 : 판 설정 추가, 3 : 구슬 수 상한
+
+    public static final int INPUT_MASK  = 0x0F;
+    public static final int CHOICE_SHIFT = 4;
+    public static final int CHOICE_MASK = 0x30;
+    public static final int NO_TICK     = 0x40;
+
+    public final long seed;
+    public final WeaponType startWeapon;
+    public final Settings settings;
+
+    final byte[] records;
+    final int recordCount;
+
+    // 체크포인트 (틱 오름차순)
+    final long[] checkpointTicks;
+    final long[] checkpointDigests;
+    final int checkpointCount;
+
+    public final long finalTick;
+    public final long finalDigest;
+
+    Replay(long seed, WeaponType startWeapon, Settings settings, byte[] records, int recordCount,
+           long[] checkpointTicks, long[] checkpointDigests, int checkpointCount,
+           long finalTick, long finalDigest) {
+        this.seed = seed;
+        this.startWeapon = startWeapon;
+        this.settings = settings;
+        this.records = records;
+        this.recordCount = recordCount;
+        this.checkpointTicks = checkpointTicks;
+        this.checkpointDigests = checkpointDigests;
+        this.checkpointCount = checkpointCount;
+        this.finalTick = finalTick;
+        this.finalDigest = finalDigest;
+    }
+
+    public int getRecordCount()     { return recordCount; }
+    public int getCheckpointCount() { return checkpointCount; }
+
+    /** i 번째 기록 바이트 (0 ~ 255) */
+    public int record(int i) {
+        return records[i] & 0xFF;
+    }
+
+    // ----------------------------------------------------
+    // 저장
+    // ----------------------------------------------------
+    public void write(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(seed);
+            out.writeByte(startWeapon == null ? -1 : startWeapon.ordinal());
+            settings.write(out);
+            out.writeInt(recordCount);
+
+            int i = 0;
+            while (i < recordCount) {
+                byte v = records[i];
+                int run = 1;
+                while (i + run < recordCount && records[i + run] == v) run++;
+                out.writeByte(v);
+                writeVarint(out, run);
+                i += run;
+            }
+
+            out.writeInt(checkpointCount);
+            for (int c = 0; c < checkpointCount; c++) {
+                out.writeLong(checkpointTicks[c]);
+                out.writeLong(checkpointDigests[c]);
+            }
+            out.writeLong(finalTick);
+            out.writeLong(finalDigest);
+        }
+    }
+
+    // ----------------------------------------------------
+    // 읽기
+    // ----------------------------------------------------
+    public static Replay read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) throw new IOException("리플레이 파일이 아님: " + file);
+            int version = in.readUnsignedShort();
+            if (version != VERSION) throw new IOException("지원하지 않는 리플레이 버전: " + version);
+
+            long seed = in.readLong();
+            int weapon = in.readByte();
+            WeaponType startWeapon = (weapon < 0) ? null : WeaponType.values()[weapon];
+            Settings settings = Settings.read(in);
+
+            int recordCount = in.readInt();
+            byte[] records = new byte[recordCount];
+            int i = 0;
+            while (i < recordCount) {
+                byte v = in.readByte();
+                int run = readVarint(in);
+                if (run <= 0 || i + run > recordCount) throw new IOException("기록 길이가 맞지 않음");
+                Arrays.fill(records, i, i + run, v);
+                i += run;
+            }
+
+            int checkpointCount = in.readInt();
+            long[] ticks = new long[checkpointCount];
+            long[] digests = new long[checkpointCount];
+            for (int c = 0; c < checkpointCount; c++) {
+                ticks[c] = in.readLong();
+                digests[c] = in.readLong();
+            }
+            long finalTick = in.readLong();
+            long finalDigest = in.readLong();
+
+            return new Replay(seed, startWeapon, settings, records, recordCount,
+                    ticks, digests, checkpointCount, finalTick, finalDigest);
+        }
+    }
+
+    // ----------------------------------------------------
+    // 판 설정
+    // ----------------------------------------------------
+
+    /** 녹화 시작 때 World 에 걸려 있던 실행 옵션 (재생 때 같은 값으로) */
+    public static final class Settings {
+        public final int monsterBudget;
+        public final int despawnDistance;
+        public final int orbBudget;
+        public final int spawnBudget;
+        public final WaveTable waves;
+
+        public Settings(int monsterBudget, int despawnDistance, int orbBudget, int spawnBudget, WaveTable waves) {
+            this.monsterBudget = monsterBudget;
+            this.despawnDistance = despawnDistance;
+            this.orbBudget = orbBudget;
+            this.spawnBudget = spawnBudget;
+            this.waves = waves;
+        }
+
+        /** 지금 world 설정 */
+        public static Settings of(World world) {
+            return new Settings(world.getPopulation().getBudget(),
+                    world.getPopulation().getDespawnDistance(),
+                    world.getPopulation().getOrbBudget(),
+                    world.getWaves().getSpawnBudget(),
+                    world.getWaves().getTable());
+        }
+
+        /** world 에 적용 (startRun 전에) */
+        public void applyTo(World world) {
+            world.getPopulation().setBudget(monsterBudget);
+            world.getPopulation().setDespawnDistance(despawnDistance);
+            world.getPopulation().setOrbBudget(orbBudget);
+            world.getWaves().setSpawnBudget(spawnBudget);
+            world.getWaves().setTable(waves);
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(monsterBudget);
+            out.writeInt(despawnDistance);
+            out.writeInt(orbBudget);
+            out.writeInt(spawnBudget);
+            byte[] text = waves.getSource().getBytes(StandardCharsets.UTF_8);
+            out.writeInt(text.length);
+            out.write(text);
+        }
+
+        static Settings read(DataInputStream in) throws IOException {
+            int monsterBudget = in.readInt();
+            int despawnDistance = in.readInt();
+            int orbBudget = in.readInt();
+            int spawnBudget = in.readInt();
+            int length = in.readInt();
+            if (length < 0) throw new IOException("웨이브 표 길이가 맞지 않음");
+            byte[] text = new byte[length];
+            in.readFully(text);
+            WaveTable waves = WaveTable.parse(new StringReader(new String(text, StandardCharsets.UTF_8)));
+            return new Settings(monsterBudget, despawnDistance, orbBudget, spawnBudget, waves);
+        }
+
+        @Override
+        public String toString() {
+            return "budget=" + monsterBudget + " despawn=" + despawnDistance + " orbBudget=" + orbBudget
+                    + " spawnBudget=" + spawnBudget + " waves=" + waves.size();
+        }
+    }
+
+    private static void writeVarint(DataOutputStream out, int v) throws IOException {
+        while ((v & ~0x7F) != 0) {
+            out.writeByte((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.writeByte(v);
+    }
+
+    private static int readVarint(DataInputStream in) throws IOException {
+        int v = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            v |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return v;
+        }
+        throw new IOException("varint 가 너무 김");
+    }
+}
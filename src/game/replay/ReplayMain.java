@@ -0,0 +1,106 @@
+package game.replay;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import game.combat.WeaponType;
+import game.sim.BotInput;
+import game.sim.World;
+
+/**
+ * 리플레이 명령줄 도구 (창 없이)
+ *
+ *   play <file> [threads]                       → 최대 속도로 재생 + 다이제스트 확인 (어긋나면 종료 코드 1)
+ *   bot  <file> [seed] [ticks] [SWORD|BOW|STAFF] → 몬스터를 피하며 구슬을 줍는 봇 판을 녹화 (성능 측정용 시나리오)
+ *
+ *   gradle replay -Preplay=run.rep
+ *   게임에서 녹화 : -Dgame.replayDir=replays
+ */
+public final class ReplayMain {
+
+    private ReplayMain() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            usage();
+            return;
+        }
+        Path file = Path.of(args[1]);
+        switch (args[0]) {
+            case "play":
+                int threads = (args.length > 2) ? Integer.parseInt(args[2]) : 1;
+                if (!play(file, threads)) System.exit(1);
+                break;
+            case "bot":
+                long seed = (args.length > 2) ? Long.parseLong(args[2]) : 1L;
+                int ticks = (args.length > 3) ? Integer.parseInt(args[3]) : 60 * 60 * 5;
+                WeaponType weapon = (args.length > 4) ? WeaponType.valueOf(args[4]) : WeaponType.BOW;
+                Replay replay = recordBot(seed, ticks, weapon);
+                if (file.getParent() != null) Files.createDirectories(file.getParent());
+                replay.write(file);
+                System.out.printf(Locale.ROOT, "녹화: %s  ticks=%d  %d bytes%n",
+                        file, replay.finalTick, Files.size(file));
+                break;
+            default:
+                usage();
+        }
+    }
+
+    private static void usage() {
+        System.err.println("사용법: ReplayMain play <file> [threads]");
+        System.err.println("        ReplayMain bot <file> [seed] [ticks] [SWORD|BOW|STAFF]");
+        System.exit(2);
+    }
+
+    private static boolean play(Path file, int threads) throws IOException {
+        Replay replay = Replay.read(file);
+        ReplayPlayer player = new ReplayPlayer(replay, threads);
+
+        long start = System.nanoTime();
+        boolean ok = player.playToEnd();
+        long nanos = System.nanoTime() - start;
+
+        World w = player.getWorld();
+        System.out.printf(Locale.ROOT, "seed=%d weapon=%s records=%d checkpoints=%d threads=%d%n",
+                replay.seed, replay.startWeapon, replay.getRecordCount(), replay.getCheckpointCount(), threads);
+        System.out.println("settings: " + replay.settings);
+        System.out.printf(Locale.ROOT, "ticks=%d kills=%d level=%d monsters=%d  %.1fms (%.0f ticks/s, x%.1f)%n",
+                w.getTickCount(), w.getKillCount(), w.getPlayer().getLevel(), w.getMonsters().size(),
+                nanos / 1e6, w.getTickCount() / (nanos / 1e9), w.getTickCount() / 60.0 / (nanos / 1e9));
+        if (ok) {
+            System.out.println("OK : 다이제스트 일치");
+        } else if (player.getDivergedAt() >= 0) {
+            System.out.println("DIVERGED : tick " + player.getDivergedAt() + " 체크포인트부터 다름");
+        } else {
+            System.out.println("DIVERGED : 마지막 상태가 다름 (ticks " + w.getTickCount() + " / 녹화 " + replay.finalTick
+                    + ", 선택 실패 " + player.getChoiceFailures() + ")");
+        }
+        return ok;
+    }
+
+    // ----------------------------------------------------
+    // 봇 녹화 (BotInput : 몬스터를 피하고 구슬을 줍는다)
+    // 봇이 월드를 보고 정한 입력도 녹화는 입력 비트만 → 재생에는 봇이 필요 없다
+    // ----------------------------------------------------
+    public static Replay recordBot(long seed, int ticks, WeaponType weapon) {
+        BotInput bot = new BotInput();
+        World world = new World(bot, seed);
+        world.startRun(weapon);
+        ReplayRecorder rec = new ReplayRecorder(world, weapon);
+
+        while (world.getTickCount() < ticks && !world.isGameOver()) {
+            if (world.isLevelUpPending()) {
+                int idx = bot.chooseLevelUp(world);
+                if (!world.applyLevelUpChoice(idx)) break;   // 고를 것이 없음
+                rec.levelUpChoice(idx);
+                continue;
+            }
+            bot.think(world);
+            world.update();
+            rec.tick(world);
+        }
+        return rec.finish(world);
+    }
+}
@@ -0,0 +1,106 @@
+package game.replay;
+
+import game.sim.PlayerInput;
+import game.sim.World;
+
+/**
+ * 녹화된 판을 헤드리스로 다시 돌린다 (화면/대기 없이 최대 속도)
+ * - 녹화 때의 판 설정(Replay.Settings)을 새 World 에 먼저 적용한다 (-D 옵션과 상관없이 녹화한 판 그대로)
+ * - 기록 한 줄 = (선택지 적용) + World.update() 한 번
+ * - 체크포인트 틱마다 다이제스트를 비교해서 처음 어긋난 틱을 남긴다 (어긋나도 끝까지 돈다)
+ * - advanceTo(tick) 로 늦은 시점까지 빨리 감은 뒤 getWorld() 를 성능 측정에 쓸 수 있다
+ */
+public class ReplayPlayer {
+
+    private final Replay replay;
+    private final World world;
+
+    // 이번 기록의 입력 비트 (World 는 틱 시작에 이걸 읽는다)
+    private int bits;
+
+    private int cursor = 0;
+    private int nextCheckpoint = 0;
+    private long divergedAt = -1;
+    private int choiceFailures = 0;
+
+    public ReplayPlayer(Replay replay) {
+        this(replay, 1);
+    }
+
+    public ReplayPlayer(Replay replay, int threads) {
+        this.replay = replay;
+        PlayerInput input = new PlayerInput() {
+            @Override public boolean up()    { return (bits & UP) != 0; }
+            @Override public boolean down()  { return (bits & DOWN) != 0; }
+            @Override public boolean left()  { return (bits & LEFT) != 0; }
+            @Override public boolean right() { return (bits & RIGHT) != 0; }
+        };
+        this.world = new World(input, replay.seed);
+        replay.settings.applyTo(world);
+        world.setThreads(threads);
+        world.startRun(replay.startWeapon);
+    }
+
+    public World getWorld()      { return world; }
+    public Replay getReplay()    { return replay; }
+
+    public boolean isFinished()  { return cursor >= replay.recordCount; }
+
+    /** 처음 어긋난 체크포인트 틱 (없으면 -1) */
+    public long getDivergedAt()  { return divergedAt; }
+
+    /** 적용에 실패한 선택지 수 (0 이 아니면 이미 다른 판) */
+    public int getChoiceFailures() { return choiceFailures; }
+
+    // ----------------------------------------------------
+    // 진행
+    // ----------------------------------------------------
+
+    /** 기록 한 줄 진행. 끝났으면 false */
+    public boolean step() {
+        if (cursor >= replay.recordCount) return false;
+        int b = replay.record(cursor++);
+
+        int choice = (b & Replay.CHOICE_MASK) >>> Replay.CHOICE_SHIFT;
+        if (choice != 0 && !world.applyLevelUpChoice(choice - 1)) choiceFailures++;
+        if ((b & Replay.NO_TICK) != 0) return true;
+
+        bits = b & Replay.INPUT_MASK;
+        world.update();
+        checkpoint();
+        return true;
+    }
+
+    /** 틱이 tick 에 닿거나 기록이 끝날 때까지 진행. 마지막 틱 번호를 돌려준다 */
+    public long advanceTo(long tick) {
+        while (world.getTickCount() < tick && step()) {
+            // 진행만
+        }
+        return world.getTickCount();
+    }
+
+    /** 끝까지 진행하고 마지막 다이제스트까지 맞으면 true */
+    public boolean playToEnd() {
+        while (step()) {
+            // 진행만
+        }
+        return matches();
+    }
+
+    /** 지금까지 어긋난 곳 없음 + (끝났다면) 마지막 틱/다이제스트도 같음 */
+    public boolean matches() {
+        if (divergedAt >= 0 || choiceFailures > 0) return false;
+        if (!isFinished()) return true;
+        return world.getTickCount() == replay.finalTick && WorldDigest.of(world) == replay.finalDigest;
+    }
+
+    private void checkpoint() {
+        if (nextCheckpoint >= replay.checkpointCount) return;
+        long tick = world.getTickCount();
+        if (tick != replay.checkpointTicks[nextCheckpoint]) return;
+        if (divergedAt < 0 && WorldDigest.of(world) != replay.checkpointDigests[nextCheckpoint]) {
+            divergedAt = tick;
+        }
+        nextCheckpoint++;
+    }
+}
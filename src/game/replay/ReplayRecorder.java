@@ -0,0 +1,90 @@
+package game.replay;
+
+import java.util.Arrays;
+
+import game.combat.WeaponType;
+import game.sim.World;
+
+/**
+ * 한 판 녹화 (시뮬레이션 스레드에서, World 갱신과 같은 락 안에서 부른다)
+ *
+ *   world.startRun(weapon);   ReplayRecorder rec = new ReplayRecorder(world, weapon);
+ *   world.update();   if (틱이 진행됐으면) rec.tick(world);
+ *   world.applyLevelUpChoice(i) 성공 → rec.levelUpChoice(i);
+ *   Replay replay = rec.finish(world);
+ *
+ * - 틱마다 1 바이트 (World 가 그 틱에 읽어 둔 입력 비트 + 직전에 고른 선택지)
+ * - CHECKPOINT_TICKS 틱마다 다이제스트를 남겨서 재생이 어긋난 지점을 좁힌다
+ * - 시드와 판 설정(몬스터 수 상한, 스폰 예산, 웨이브 표 ...)은 만들 때의 world 값을 저장한다
+ */
+public class ReplayRecorder {
+
+    public static final int CHECKPOINT_TICKS = 600;   // 10초
+
+    private final long seed;
+    private final WeaponType startWeapon;
+    private final Replay.Settings settings;
+
+    private byte[] records = new byte[4096];
+    private int recordCount = 0;
+
+    private long[] checkpointTicks = new long[16];
+    private long[] checkpointDigests = new long[16];
+    private int checkpointCount = 0;
+
+    private int pendingChoice = 0;   // 다음 기록에 붙일 선택지 + 1
+
+    public ReplayRecorder(World world, WeaponType startWeapon) {
+        this.seed = world.getSeed();
+        this.startWeapon = startWeapon;
+        this.settings = Replay.Settings.of(world);
+    }
+
+    /** 레벨업 선택지 idx 를 적용함 (다음 틱 기록에 붙는다) */
+    public void levelUpChoice(int idx) {
+        if (pendingChoice != 0) {
+            // 틱 없이 선택이 두 번 → 앞의 것을 틱 없는 기록으로
+            append(pendingChoice << Replay.CHOICE_SHIFT | Replay.NO_TICK);
+        }
+        pendingChoice = idx + 1;
+    }
+
+    /** World.update() 로 틱이 하나 진행된 직후 */
+    public void tick(World world) {
+        append(world.getInputBits() & Replay.INPUT_MASK | pendingChoice << Replay.CHOICE_SHIFT);
+        pendingChoice = 0;
+
+        long tick = world.getTickCount();
+        if (tick % CHECKPOINT_TICKS == 0) {
+            if (checkpointCount == checkpointTicks.length) {
+                checkpointTicks = Arrays.copyOf(checkpointTicks, checkpointCount * 2);
+                checkpointDigests = Arrays.copyOf(checkpointDigests, checkpointCount * 2);
+            }
+            checkpointTicks[checkpointCount] = tick;
+            checkpointDigests[checkpointCount] = WorldDigest.of(world);
+            checkpointCount++;
+        }
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /** 녹화 끝 : 지금 상태를 마지막 다이제스트로 (계속 녹화해도 된다) */
+    public Replay finish(World world) {
+        int count = recordCount;
+        byte[] out = Arrays.copyOf(records, count + 1);
+        if (pendingChoice != 0) {
+            out[count++] = (byte) (pendingChoice << Replay.CHOICE_SHIFT | Replay.NO_TICK);
+        }
+        return new Replay(seed, startWeapon, settings, out, count,
+                Arrays.copyOf(checkpointTicks, checkpointCount),
+                Arrays.copyOf(checkpointDigests, checkpointCount), checkpointCount,
+                world.getTickCount(), WorldDigest.of(world));
+    }
+
+    private void append(int b) {
+        if (recordCount == records.length) records = Arrays.copyOf(records, recordCount * 2);
+        records[recordCount++] = (byte) b;
+    }
+}
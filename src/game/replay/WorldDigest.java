@@ -0,0 +1,87 @@
+package game.replay;
+
+import game.combat.ArrowProjectile;
+import game.combat.FireballProjectile;
+import game.entity.ExpOrb;
+import game.entity.player.Player;
+import game.sim.World;
+import game.util.Bag;
+import game.world.MonsterStore;
+
+/**
+ * 시뮬레이션 상태 해시 (리플레이가 녹화 때와 같은 판을 지나는지 확인용)
+ * - 틱 / 처치 수 / 플레이어 / 몬스터 전부 / 경험치 구슬 / 투사체 위치
+ * - 화면용 상태(데미지 숫자, 프로파일러)와 스레드 수는 넣지 않는다
+ */
+public final class WorldDigest {
+
+    private static final long PRIME = 0x100000001B3L;   // FNV-1a 64
+
+    private WorldDigest() {}
+
+    public static long of(World world) {
+        long h = 0xCBF29CE484222325L;
+        h = mix(h, world.getTickCount());
+        h = mix(h, world.getKillCount());
+        h = mix(h, world.isLevelUpPending() ? 1 : 0);
+        h = mix(h, world.isGameOver() ? 1 : 0);
+
+        Player p = world.getPlayer();
+        h = mix(h, p.worldX);
+        h = mix(h, p.worldY);
+        h = mix(h, p.getCurrentHp());
+        h = mix(h, p.getMaxHp());
+        h = mix(h, p.getLevel());
+        h = mix(h, p.getCurrentExp());
+        h = mix(h, p.speed);
+        for (Player.OwnedWeapon w : p.getOwnedWeapons()) {
+            h = mix(h, w.type.ordinal());
+            h = mix(h, w.level);
+            h = mix(h, w.cooldownCounter);
+        }
+
+        MonsterStore ms = world.getMonsters();
+        int n = ms.size();
+        h = mix(h, n);
+        for (int s = 0; s < n; s++) {
+            h = mix(h, ms.id[s]);
+            h = mix(h, ms.x[s]);
+            h = mix(h, ms.y[s]);
+            h = mix(h, ms.hp[s]);
+            h = mix(h, ms.type[s]);
+        }
+
+        Bag<ExpOrb> orbs = world.getExpOrbs();
+        h = mix(h, orbs.size());
+        for (int i = 0; i < orbs.size(); i++) {
+            ExpOrb o = orbs.get(i);
+            h = mix(h, Double.doubleToLongBits(o.getX()));
+            h = mix(h, Double.doubleToLongBits(o.getY()));
+            h = mix(h, o.getValue());
+        }
+
+        Bag<ArrowProjectile> arrows = world.getArrows();
+        h = mix(h, arrows.size());
+        for (int i = 0; i < arrows.size(); i++) {
+            h = mix(h, Double.doubleToLongBits(arrows.get(i).getX()));
+            h = mix(h, Double.doubleToLongBits(arrows.get(i).getY()));
+        }
+
+        Bag<FireballProjectile> fireballs = world.getFireballs();
+        h = mix(h, fireballs.size());
+        for (int i = 0; i < fireballs.size(); i++) {
+            h = mix(h, Double.doubleToLongBits(fireballs.get(i).getX()));
+            h = mix(h, Double.doubleToLongBits(fireballs.get(i).getY()));
+        }
+        return h;
+    }
+
+    private static long mix(long h, long v) {
+        for (int i = 0; i < 8; i++) {
+            h ^= (v & 0xFF);
+            h *= PRIME;
+            v >>>= 8;
+        }
+        return h;
+    }
+}
@@ -0,0 +1,82 @@
+package game.sim;
+
+import game.entity.ExpOrb;
+import game.entity.player.Player;
+import game.util.Bag;
+import game.world.MonsterStore;
+
+/**
+ * 헤드리스 실행용 자동 입력 (리플레이 봇 녹화, 소크 테스트)
+ * - 가까운 몬스터 반대로 도망, 없으면 가까운 구슬 쪽으로, 그것도 없으면 TURN_TICKS 틱마다 방향을 돌린다
+ * - World.update() 전에 think(world) 로 이번 틱 방향을 정한다 (월드 상태만 보므로 같은 판이면 같은 입력)
+ * - 레벨업은 선택지를 번갈아 고른다
+ */
+public class BotInput implements PlayerInput {
+
+    private static final int TURN_TICKS = 90;
+    private static final int THREAT = 180;   // 이 거리 안 몬스터를 피한다
+    private static final int[] DIRS = {
+            RIGHT, RIGHT | DOWN, DOWN, DOWN | LEFT, LEFT, LEFT | UP, UP, UP | RIGHT };
+
+    private int bits;
+    private int choices = 0;
+
+    @Override public boolean up()    { return (bits & UP) != 0; }
+    @Override public boolean down()  { return (bits & DOWN) != 0; }
+    @Override public boolean left()  { return (bits & LEFT) != 0; }
+    @Override public boolean right() { return (bits & RIGHT) != 0; }
+
+    /** 이번 틱 방향 정하기 */
+    public void think(World world) {
+        Player p = world.getPlayer();
+        int px = p.worldX + p.width / 2, py = p.worldY + p.height / 2;
+
+        // 위협 : 가까울수록 크게 밀어내는 힘의 합
+        MonsterStore ms = world.getMonsters();
+        double fx = 0, fy = 0;
+        for (int s = 0; s < ms.size(); s++) {
+            double dx = px - ms.centerX(s), dy = py - ms.centerY(s);
+            double d2 = dx * dx + dy * dy;
+            if (d2 > THREAT * THREAT || d2 == 0) continue;
+            fx += dx / d2;
+            fy += dy / d2;
+        }
+        if (fx != 0 || fy != 0) {
+            bits = toBits(fx, fy);
+            return;
+        }
+
+        // 가까운 구슬
+        Bag<ExpOrb> orbs = world.getExpOrbs();
+        double best = Double.MAX_VALUE, tx = 0, ty = 0;
+        for (int i = 0; i < orbs.size(); i++) {
+            double dx = orbs.get(i).getX() - px, dy = orbs.get(i).getY() - py;
+            double d2 = dx * dx + dy * dy;
+            if (d2 < best) {
+                best = d2;
+                tx = dx;
+                ty = dy;
+            }
+        }
+        if (best < Double.MAX_VALUE) {
+            bits = toBits(tx, ty);
+            return;
+        }
+
+        bits = DIRS[(int) (world.getTickCount() / TURN_TICKS) % DIRS.length];
+    }
+
+    /** 레벨업 대기 중일 때 고를 선택지 번호 (빈 칸이면 0 번) */
+    public int chooseLevelUp(World world) {
+        int idx = choices++ % world.getLevelUpChoiceCount();
+        return (world.getLevelUpChoice(idx) == null) ? 0 : idx;
+    }
+
+    // 벡터 → 8 방향 비트 (한 축이 다른 축의 절반도 안 되면 그 축은 무시)
+    private static int toBits(double x, double y) {
+        int b = 0;
+        if (Math.abs(x) * 2 >= Math.abs(y)) b |= (x > 0) ? RIGHT : LEFT;
+        if (Math.abs(y) * 2 >= Math.abs(x)) b |= (y > 0) ? DOWN : UP;
+        return b;
+    }
+}
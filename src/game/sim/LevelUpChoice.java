@@ -0,0 +1,23 @@
+package game.sim;
+
+import game.combat.WeaponType;
+
+/**
+ * 레벨업 선택지 하나 (패시브 또는 무기 강화/획득)
+ */
+public class LevelUpChoice {
+
+    public enum Type { PASSIVE_ATK, PASSIVE_SPD, PASSIVE_HP, WEAPON }
+
+    public final Type type;
+    public final WeaponType weaponType; // WEAPON일 때만 사용
+    public final String title;
+    public final String desc;           // 툴팁용 설명
+
+    LevelUpChoice(Type type, WeaponType weaponType, String title, String desc) {
+        this.type = type;
+        this.weaponType = weaponType;
+        this.title = title;
+        this.desc = desc;
+    }
+}
@@ -0,0 +1,37 @@
+package game.sim;
+
+/**
+ * 시뮬레이션이 읽는 이동 입력 (키보드, 리플레이, 헤드리스 AI 등)
+ * - 게임 루프 스레드에서 틱마다 읽는다
+ */
+public interface PlayerInput {
+
+    boolean up();
+    boolean down();
+    boolean left();
+    boolean right();
+
+    // ===== 비트로 묶은 입력 (World 가 틱 시작에 한 번 읽어 둔 값, 리플레이 기록 단위) =====
+    int UP    = 1;
+    int DOWN  = 2;
+    int LEFT  = 4;
+    int RIGHT = 8;
+
+    /** 지금 눌린 방향을 비트로 */
+    static int toBits(PlayerInput in) {
+        int bits = 0;
+        if (in.up())    bits |= UP;
+        if (in.down())  bits |= DOWN;
+        if (in.left())  bits |= LEFT;
+        if (in.right()) bits |= RIGHT;
+        return bits;
+    }
+
+    /** 아무 키도 안 누른 입력 (헤드리스 실행 기본값) */
+    PlayerInput NONE = new PlayerInput() {
+        @Override public boolean up()    { return false; }
+        @Override public boolean down()  { return false; }
+        @Override public boolean left()  { return false; }
+        @Override public boolean right() { return false; }
+    };
+}
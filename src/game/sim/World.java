@@ -0,0 +1,673 @@
+package game.sim;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import game.combat.ArrowProjectile;
+import game.combat.Collision;
+import game.combat.FireballProjectile;
+import game.combat.ProjectileResolver;
+import game.combat.WeaponType;
+import game.effects.DamageText;
+import game.entity.ExpOrb;
+import game.entity.monster.MonsterType;
+import game.event.CombatStats;
+import game.event.EventConsumer;
+import game.event.EventQueue;
+import game.event.EventType;
+import game.entity.player.Player;
+import game.profile.FrameProfiler;
+import game.profile.Phase;
+import game.profile.jfr.JfrEventBridge;
+import game.profile.jfr.TickEvent;
+import game.profile.jfr.WeaponFireEvent;
+import game.util.Bag;
+import game.util.ParallelFor;
+import game.util.Pool;
+import game.world.CrowdSeparation;
+import game.world.FlowField;
+import game.world.MonsterStore;
+import game.world.PopulationManager;
+import game.world.SpatialGrid;
+import game.world.WaveDirector;
+import game.world.WaveTable;
+
+/**
+ * 게임 한 판의 시뮬레이션 상태 전체 (화면/Swing 없이 돌아간다)
+ * - 플레이어, 몬스터, 경험치 구슬, 투사체, 데미지 텍스트, 스폰, 레벨업, 전투
+ * - update() 한 번 = 고정 스텝 한 틱 (60Hz 기준)
+ * - 좌표는 전부 월드 좌표. 화면 변환은 그리는 쪽(GamePanel)에서
+ * - 전투 결과(데미지/처치/구슬/레벨업)는 이벤트로 발행하고 틱 끝에 한 번에 처리 (getEvents 로 구독)
+ * - 스레드 안전하지 않음 : 한 스레드에서만 돌리거나 바깥에서 락을 잡는다
+ */
+public class World {
+
+    public static final int TICKS_PER_SECOND = 60;
+
+    private static final int SPLIT_SPREAD = 12;      // 분열한 새끼끼리 중심 간격 절반 (px)
+
+    // 데미지 숫자 : 한 몬스터가 이 틱 수 동안 맞은 건 숫자 하나로 합친다 + 동시에 떠 있는 개수 상한
+    private static final int DAMAGE_MERGE_TICKS = 6;
+    private static final int MAX_LIVE_TEXTS = 200;
+
+    // JFR 이벤트 종류 : 녹화 중이 아니면 이벤트 객체를 아예 안 만든다 (틱마다 쓰레기 X)
+    private static final jdk.jfr.EventType JFR_TICK = jdk.jfr.EventType.getEventType(TickEvent.class);
+    private static final jdk.jfr.EventType JFR_FIRE = jdk.jfr.EventType.getEventType(WeaponFireEvent.class);
+
+    private final PlayerInput input;
+    private final Random rand;
+    private long seed;
+
+    // 이번 틱 입력 : 틱 시작에 input 을 한 번만 읽어 둔다 (틱 도중 키가 바뀌어도 같은 값, 리플레이는 이 값을 기록)
+    private int inputBits;
+    private final PlayerInput tickInput = new PlayerInput() {
+        @Override public boolean up()    { return (inputBits & UP) != 0; }
+        @Override public boolean down()  { return (inputBits & DOWN) != 0; }
+        @Override public boolean left()  { return (inputBits & LEFT) != 0; }
+        @Override public boolean right() { return (inputBits & RIGHT) != 0; }
+    };
+
+    private Player player;
+
+    // 몬스터는 객체 대신 배열 저장소에 (슬롯 단위로 처리)
+    private final MonsterStore monsters = new MonsterStore();
+
+    // 몬스터 검색용 격자 (매 틱 몬스터 이동 후 다시 만든다)
+    private final SpatialGrid monsterGrid = new SpatialGrid(monsters, 64);
+
+    // 몬스터 길찾기 흐름장 (32px 칸, 플레이어 주변 128×96 칸 = 약 ±2000 × ±1500px)
+    private final FlowField flowField = new FlowField(32, 128, 96);
+
+    // 몬스터끼리 밀어내기 (한 점에 뭉치지 않게)
+    private final CrowdSeparation separation = new CrowdSeparation(monsters, monsterGrid);
+
+    // 몬스터 수 상한 + 멀리 떨어진 몬스터를 화면 바깥 고리로 옮기기
+    private final PopulationManager population = new PopulationManager();
+
+    // 웨이브 표대로 스폰 (초당 스폰 예산 안에서 무리 단위로)
+    private final WaveDirector waves = new WaveDirector(WaveTable.defaults());
+
+    // 순서 없는 Bag : 삭제는 마지막 원소와 자리 바꾸기
+    private final Bag<ArrowProjectile> arrows       = new Bag<>(64);
+    private final Bag<FireballProjectile> fireballs = new Bag<>(16);
+    private final Bag<ExpOrb> expOrbs               = new Bag<>(256);
+    private final Bag<DamageText> damageTexts       = new Bag<>(256);
+
+    // 전투 이벤트 (틱 끝에 drain, 게임 규칙 소비자가 맨 앞)
+    private final EventQueue events = new EventQueue();
+    private final CombatStats stats = new CombatStats();
+    private final EventConsumer rules = this::applyEvents;
+
+    // 구간별 시간 기록 (꺼져 있으면 거의 공짜, 켜고 끄기는 getProfiler().setEnabled)
+    private final FrameProfiler profiler = new FrameProfiler("sim");
+
+    // 투사체 맞히기 (후보 버퍼 재사용)
+    private final ProjectileResolver projectiles = new ProjectileResolver();
+
+    // 자주 생겼다 사라지는 객체 풀 (제거할 때 release, 생성할 때 acquire)
+    private final Pool<ArrowProjectile> arrowPool       = new Pool<>(ArrowProjectile::new, 512);
+    private final Pool<FireballProjectile> fireballPool = new Pool<>(FireballProjectile::new, 64);
+    private final Pool<DamageText> damageTextPool       = new Pool<>(DamageText::new, 2048);
+    private final Pool<ExpOrb> expOrbPool               = new Pool<>(ExpOrb::new, 4096);
+
+    // 통계
+    private int killCount = 0;
+    private long tickCount = 0;
+
+    // 레벨업 선택 대기 (선택 전까지 update 는 멈춘다)
+    private boolean levelUpPending = false;
+    private final LevelUpChoice[] levelUpChoices = new LevelUpChoice[3];
+
+    private boolean gameOver = false;
+
+    // 병렬 처리 (몬스터가 PARALLEL_MIN 마리 이상일 때만, pool 이 null 이면 한 스레드)
+    // 구간은 스레드 수와 무관하게 MOVE_CHUNK 단위 + 공유 상태는 순서대로 합치므로 스레드 수와 상관없이 같은 결과
+    private static final int MOVE_CHUNK = 4096;
+    private static final int PARALLEL_MIN = 8192;
+    private ForkJoinPool pool;
+    private int threads = 1;
+    private int[] contactDamage = new int[4];
+    private final ParallelFor.Body moveBody = this::moveMonsters;
+
+    // ----------------------------------------------------
+    // 생성자
+    // ----------------------------------------------------
+    /** 시드를 무작위로 뽑는다 (getSeed 로 알 수 있으니 이 판도 리플레이 가능) */
+    public World(PlayerInput input) {
+        this(input, new Random().nextLong());
+    }
+
+    /** 같은 시드 + 같은 입력(틱별 입력 비트 + 레벨업 선택)이면 같은 판이 나온다 */
+    public World(PlayerInput input, long seed) {
+        this.input = input;
+        this.seed = seed;
+        this.rand = new Random(seed);
+        // 처음에는 무기 없이 생성 (시작 시 선택)
+        this.player = new Player(tickInput, null);
+
+        events.subscribe(rules);
+        events.subscribe(stats);
+        events.subscribe(new JfrEventBridge(this::getTickCount));
+    }
+
+    /** 시작 무기 등록 (null 이면 무기 없이) */
+    public void startRun(WeaponType type) {
+        if (type != null) {
+            player.addOrUpgradeWeapon(type); // 기본 무기 등록 (레벨 1)
+        }
+    }
+
+    /**
+     * 시뮬레이션에 쓸 스레드 수 (1 이하면 전부 부른 스레드에서)
+     * - 몬스터 이동/접촉, 몬스터끼리 밀어내기, 투사체 후보 찾기를 구간으로 나눠 이 수만큼의 풀에서 돌린다
+     * - 결과는 스레드 수와 상관없이 같다 (같은 시드 + 같은 입력이면 1 스레드 실행과 똑같은 판)
+     */
+    public void setThreads(int threads) {
+        threads = Math.max(1, threads);
+        if (threads == this.threads) return;
+
+        if (pool != null) pool.shutdown();
+        pool = (threads > 1) ? new ForkJoinPool(threads) : null;
+        this.threads = threads;
+        separation.setPool(pool);
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /** 한 판을 완전히 새로 시작 (플레이어도 처음 상태로). 시드는 지금 난수에서 새로 뽑는다 */
+    public void reset() {
+        reset(rand.nextLong());
+    }
+
+    /** 한 판을 완전히 새로 시작 : 결과는 new World(input, seed) 와 같은 상태 */
+    public void reset(long seed) {
+        this.seed = seed;
+        rand.setSeed(seed);
+        inputBits = 0;
+
+        monsters.clear();
+        monsterGrid.clear();
+        flowField.invalidate();
+        releaseTransients();
+        events.clear();
+        stats.reset();
+        population.reset();
+
+        player = new Player(tickInput, null);
+
+        waves.reset();
+        killCount = 0;
+        tickCount = 0;
+        levelUpPending = false;
+        gameOver = false;
+    }
+
+    /** 구슬/투사체/데미지 텍스트를 전부 풀에 돌려주고 비우기 */
+    public void releaseTransients() {
+        for (int i = 0; i < expOrbs.size(); i++)     expOrbPool.release(expOrbs.get(i));
+        for (int i = 0; i < arrows.size(); i++)      arrowPool.release(arrows.get(i));
+        for (int i = 0; i < fireballs.size(); i++)   fireballPool.release(fireballs.get(i));
+        for (int i = 0; i < damageTexts.size(); i++) damageTextPool.release(damageTexts.get(i));
+        expOrbs.clear();
+        arrows.clear();
+        fireballs.clear();
+        damageTexts.clear();
+    }
+
+    // ----------------------------------------------------
+    // 한 틱 진행
+    // ----------------------------------------------------
+    public void update() {
+        // 레벨업 선택 대기 중이거나 게임 오버면 멈춤
+        if (levelUpPending || gameOver) return;
+
+        FrameProfiler prof = profiler;
+        long tickStart = prof.start();
+
+        // JFR 틱 이벤트 (녹화 중이 아니면 null)
+        TickEvent jfrTick = JFR_TICK.isEnabled() ? new TickEvent() : null;
+        if (jfrTick != null) jfrTick.begin();
+        int killsBefore = killCount;
+
+        tickCount++;
+        inputBits = PlayerInput.toBits(input);
+        long t = prof.start();
+        player.update();
+        prof.stop(Phase.PLAYER, t);
+
+        // 몬스터끼리 밀어내기 (지난 틱 격자 그대로 → 스폰/이동/삭제 전에)
+        t = prof.start();
+        separateMonsters();
+        prof.stop(Phase.SEPARATION, t);
+
+        // 몬스터 스폰 (웨이브 표) + 멀리 떨어진 몬스터 정리
+        t = prof.start();
+        int pcx = player.worldX + player.width / 2, pcy = player.worldY + player.height / 2;
+        waves.update(tickCount, monsters, population, flowField, rand, pcx, pcy);
+        population.update(monsters, flowField, rand, pcx, pcy, tickCount);
+        prof.stop(Phase.SPAWN, t);
+
+        // 몬스터 이동 + 충돌/사망 처리 (배열 직접 순회)
+        t = prof.start();
+        flowField.update(player.worldX + player.width / 2, player.worldY + player.height / 2);
+        updateMonsters();
+        prof.stop(Phase.MONSTERS, t);
+
+        // 이동이 끝난 위치로 격자 갱신 (무기/투사체는 이 격자만 사용)
+        t = prof.start();
+        monsterGrid.rebuild();
+        prof.stop(Phase.GRID, t);
+
+        // 경험치 구슬 먹기
+        t = prof.start();
+        for (int i = 0; i < expOrbs.size(); ) {
+            ExpOrb orb = expOrbs.get(i);
+
+            // orb.update(player)가 true면 플레이어에게 흡수된 것
+            if (orb.update(player)) {
+                expOrbs.removeAt(i);   // 마지막 구슬이 i 자리로 → i 그대로
+                int value = orb.getValue();
+                events.orbCollected(value, (int) orb.getX(), (int) orb.getY());
+                expOrbPool.release(orb);
+                boolean leveledUp = player.gainExp(value);
+                if (leveledUp) {
+                    events.levelUp(player.getLevel());
+                    // 선택지는 틱 끝 이벤트 처리에서, 이번 틱 구슬은 여기까지
+                    if (player.getLevel() < player.getMaxLevel()) break;
+                }
+            } else {
+                i++;
+            }
+        }
+        population.updateOrbs(expOrbs, expOrbPool, pcx, pcy, tickCount);
+        prof.stop(Phase.ORBS, t);
+
+        // 무기 자동 공격 (보유한 모든 무기)
+        t = prof.start();
+        for (Player.OwnedWeapon ow : player.getOwnedWeapons()) {
+            if (ow.weapon == null) continue;
+
+            ow.weapon.updateEffect();
+            ow.cooldownCounter++;
+            int cd = ow.weapon.getCooldownFrames(player);
+            if (ow.cooldownCounter >= cd) {
+                ow.cooldownCounter = 0;
+
+                WeaponFireEvent fire = JFR_FIRE.isEnabled() ? new WeaponFireEvent() : null;
+                int hitsBefore = events.size();
+                int shotsBefore = arrows.size() + fireballs.size();
+                if (fire != null) fire.begin();
+                ow.weapon.attack(this, player, monsterGrid);
+                if (fire == null) continue;
+                fire.end();
+                if (fire.shouldCommit()) {
+                    fire.weapon = ow.type.name();
+                    fire.level = ow.level;
+                    fire.hits = events.size() - hitsBefore;
+                    fire.projectiles = arrows.size() + fireballs.size() - shotsBefore;
+                    fire.commit();
+                }
+            }
+        }
+        prof.stop(Phase.WEAPONS, t);
+
+        // 화살/파이어볼 : 이동 + 후보 찾기(병렬 가능) → 순서대로 맞히기
+        t = prof.start();
+        projectiles.update(arrows, fireballs, monsterGrid, pool);
+
+        // 화살 제거
+        for (int i = 0; i < arrows.size(); ) {
+            if (!arrows.get(i).isAlive()) {
+                arrowPool.release(arrows.removeAt(i));
+            } else {
+                i++;
+            }
+        }
+
+        // 파이어볼 제거
+        for (int i = 0; i < fireballs.size(); ) {
+            if (!fireballs.get(i).isAlive()) {
+                fireballPool.release(fireballs.removeAt(i));
+            } else {
+                i++;
+            }
+        }
+        prof.stop(Phase.PROJECTILES, t);
+
+        // 데미지 텍스트 업데이트 및 제거
+        t = prof.start();
+        for (int i = 0; i < damageTexts.size(); ) {
+            if (damageTexts.get(i).update()) {
+                damageTextPool.release(damageTexts.removeAt(i));
+            } else {
+                i++;
+            }
+        }
+        prof.stop(Phase.TEXTS, t);
+
+        if (player.getCurrentHp() <= 0) {
+            gameOver = true;
+        }
+
+        // 이번 틱 전투 이벤트 처리 (게임 규칙 → 통계 → 바깥 구독자 순서)
+        t = prof.start();
+        events.drain();
+        prof.stop(Phase.EVENTS, t);
+
+        prof.stop(Phase.TICK, tickStart);
+        prof.endFrame();
+
+        if (jfrTick == null) return;
+        jfrTick.end();
+        if (jfrTick.shouldCommit()) {
+            jfrTick.tick = tickCount;
+            jfrTick.monsters = monsters.size();
+            jfrTick.orbs = expOrbs.size();
+            jfrTick.arrows = arrows.size();
+            jfrTick.fireballs = fireballs.size();
+            jfrTick.damageTexts = damageTexts.size();
+            jfrTick.kills = killCount - killsBefore;
+            jfrTick.threads = threads;
+            jfrTick.commit();
+        }
+    }
+
+    // 게임 규칙 소비자 : 데미지 숫자 모으기, 킬 카운트 + 구슬 드랍 + 분열, 레벨업 선택지
+    private void applyEvents(EventQueue ev, int count) {
+        int now = (int) tickCount;
+        for (int i = 0; i < count; i++) {
+            switch (ev.type(i)) {
+                case EventType.DAMAGE_DEALT:
+                    // 숫자는 잠깐 모았다가 몬스터마다 하나로 띄운다 (슬롯은 이번 틱 안이라 유효)
+                    monsters.addPendingDamage(ev.slot(i), ev.value(i), now);
+                    break;
+                case EventType.MONSTER_KILLED:
+                    killCount++;
+                    MonsterType dead = MonsterType.get(ev.value(i));
+                    spawnExpOrb(ev.x(i), ev.y(i), dead.exp);
+                    if (dead.getSplitType() != null) {
+                        splitMonster(dead, ev.x(i), ev.y(i));
+                    }
+                    break;
+                case EventType.LEVEL_UP:
+                    if (ev.value(i) < player.getMaxLevel()) {
+                        prepareLevelUpChoices();
+                        levelUpPending = true;
+                    }
+                    break;
+            }
+        }
+    }
+
+    // 몬스터 이동 + 플레이어 충돌 + 죽은 몬스터 제거
+    private void updateMonsters() {
+        MonsterStore ms = monsters;
+        int now = (int) tickCount;
+
+        // 1) 순서대로 : 데미지 숫자 + 사망 처리 (Bag/풀/이벤트 같은 공유 상태는 여기서만)
+        int i = 0;
+        while (i < ms.size()) {
+            // 모아 둔 데미지 숫자 띄우기 (합치는 시간이 지났거나 죽었으면)
+            if (ms.pendingDamage[i] > 0
+                    && (ms.hp[i] <= 0 || now - ms.pendingSince[i] >= DAMAGE_MERGE_TICKS)) {
+                addDamageText(ms.x[i], ms.y[i], ms.pendingDamage[i]);
+                ms.pendingDamage[i] = 0;
+            }
+
+            if (ms.hp[i] <= 0) {
+                // 죽은 몬스터 → 처치 이벤트(킬 카운트 + 구슬 드랍은 틱 끝에) + 제거(마지막 슬롯이 이 자리로)
+                events.monsterKilled(ms.id[i], ms.type[i], ms.centerX(i), ms.centerY(i));
+                ms.removeAt(i);
+                continue;
+            }
+            i++;
+        }
+
+        // 2) 구간 병렬 : 이동 + 플레이어 접촉 (슬롯마다 독립, 접촉 수는 구간별로 따로 센다)
+        int n = ms.size();
+        int chunks = ParallelFor.chunkCount(n, MOVE_CHUNK);
+        if (contactDamage.length < chunks) {
+            contactDamage = new int[chunks * 2];
+        }
+        ParallelFor.run(n >= PARALLEL_MIN ? pool : null, n, MOVE_CHUNK, moveBody);
+
+        // 3) 접촉 데미지 (무적 시간이 있어서 한 틱에 한 번만 : 닿은 몬스터 중 가장 센 종류 데미지)
+        int damage = 0;
+        for (int c = 0; c < chunks; c++) {
+            damage = Math.max(damage, contactDamage[c]);
+        }
+        if (damage > 0) {
+            player.takeDamage(damage);
+        }
+    }
+
+    // 구간 [from, to) 몬스터 이동 + 접촉 데미지 최댓값 (자기 슬롯 좌표와 contactDamage[chunk] 만 쓴다)
+    private void moveMonsters(int chunk, int from, int to) {
+        MonsterStore ms = monsters;
+        FlowField flow = flowField;
+        boolean walls = flow.hasObstacles();
+        int px = player.worldX, py = player.worldY;
+        int pw = player.width,  ph = player.height;
+        int contact = 0;
+
+        for (int i = from; i < to; i++) {
+            // 플레이어를 향해 이동 (흐름장 방향, 플레이어 칸/창 밖이면 직선 추적)
+            MonsterType t = MonsterType.get(ms.type[i]);
+            int sp = t.speed;
+            int x = ms.x[i], y = ms.y[i];
+            int cx = x + t.halfW, cy = y + t.halfH;
+            int d = flow.directionAt(cx, cy);
+            int nx = x, ny = y;
+            if (d >= 0 && d < 8) {
+                nx += sp * FlowField.DIR_X[d];
+                ny += sp * FlowField.DIR_Y[d];
+            } else {
+                if (x < px) nx += sp;
+                if (x > px) nx -= sp;
+                if (y < py) ny += sp;
+                if (y > py) ny -= sp;
+            }
+            // 막힌 칸으로는 못 들어감 (축별로 따로 확인 → 벽을 따라 미끄러짐)
+            // 이미 막힌 칸 안에 있으면(장애물이 나중에 생긴 경우) 빠져나갈 때까지 그대로 이동
+            if (walls && !flow.isBlocked(cx, cy)) {
+                if (flow.isBlocked(nx + t.halfW, cy)) nx = x;
+                if (flow.isBlocked(nx + t.halfW, ny + t.halfH)) ny = y;
+            }
+            ms.x[i] = nx;
+            ms.y[i] = ny;
+
+            if (t.contactDamage > contact
+                    && Collision.intersects(px, py, pw, ph, nx, ny, t.width, t.height)) {
+                contact = t.contactDamage;
+            }
+        }
+        contactDamage[chunk] = contact;
+    }
+
+    private void separateMonsters() {
+        MonsterStore ms = monsters;
+        FlowField flow = flowField;
+        boolean walls = flow.hasObstacles();
+        int n = separation.compute(tickCount);
+
+        for (int i = 0; i < n; i++) {
+            int dx = separation.pushX(i), dy = separation.pushY(i);
+            if (dx == 0 && dy == 0) continue;
+
+            int x = ms.x[i], y = ms.y[i];
+            int nx = x + dx, ny = y + dy;
+            if (walls) {
+                MonsterType t = MonsterType.get(ms.type[i]);
+                int cx = x + t.halfW, cy = y + t.halfH;
+                if (!flow.isBlocked(cx, cy)) {
+                    if (flow.isBlocked(nx + t.halfW, cy)) nx = x;
+                    if (flow.isBlocked(nx + t.halfW, ny + t.halfH)) ny = y;
+                }
+            }
+            ms.x[i] = nx;
+            ms.y[i] = ny;
+        }
+    }
+
+    // 경험치 구슬 드랍 (몬스터 중심 좌표, 양은 종류마다)
+    private void spawnExpOrb(int x, int y, int exp) {
+        expOrbs.add(expOrbPool.acquire().init(x, y, exp));
+    }
+
+    // 분열 : 죽은 자리(중심 cx, cy)에 새끼를 가로로 나란히 (몬스터 수 상한 안에서, 장애물 위면 가운데로)
+    private void splitMonster(MonsterType parent, int cx, int cy) {
+        MonsterType child = parent.getSplitType();
+        int n = population.allowSpawn(monsters, parent.getSplitCount());
+        for (int k = 0; k < n; k++) {
+            int x = cx + (2 * k - (n - 1)) * SPLIT_SPREAD;
+            if (flowField.isBlocked(x, cy)) x = cx;
+            monsters.add(x - child.halfW, cy - child.halfH, child.id);
+        }
+    }
+
+    // ----------------------------------------------------
+    // 무기/투사체가 부르는 생성 함수
+    // ----------------------------------------------------
+    // 활 발사체 생성
+    public void spawnArrow(double startX, double startY,
+                           double dirX, double dirY,
+                           int damage, int hitsAllowed,
+                           double speed) {
+        arrows.add(arrowPool.acquire().init(this, startX, startY,
+                dirX, dirY, damage, hitsAllowed, speed));
+    }
+
+    // 파이어볼 발사체 생성
+    public void spawnFireball(double startX, double startY,
+                              double dirX, double dirY,
+                              int damage, int radius) {
+        fireballs.add(fireballPool.acquire().init(this, startX, startY,
+                dirX, dirY, damage, radius));
+    }
+
+    /** 몬스터가 맞은 데미지 → 데미지 이벤트 (체력은 부르는 쪽에서 이미 깎은 상태) */
+    public void addHitDamage(int slot, int damage) {
+        events.damageDealt(monsters.id[slot], slot, damage);
+    }
+
+    // 데미지 텍스트 추가 (월드 좌표 : 맞은 몬스터 왼쪽 위)
+    // 상한에 닿으면 가장 오래된 것을 새 숫자로 덮어쓴다
+    public void addDamageText(int worldX, int worldY, int damage) {
+        if (damageTexts.size() >= MAX_LIVE_TEXTS) {
+            DamageText oldest = damageTexts.get(0);
+            for (int i = 1; i < damageTexts.size(); i++) {
+                DamageText dt = damageTexts.get(i);
+                if (dt.getLife() < oldest.getLife()) oldest = dt;
+            }
+            oldest.init(worldX, worldY, damage);
+            return;
+        }
+        damageTexts.add(damageTextPool.acquire().init(worldX, worldY, damage));
+    }
+
+    // ----------------------------------------------------
+    // 레벨업
+    // ----------------------------------------------------
+    private void prepareLevelUpChoices() {
+        List<LevelUpChoice> pool = new ArrayList<>();
+
+        // 패시브 3개
+        pool.add(new LevelUpChoice(LevelUpChoice.Type.PASSIVE_ATK, null,
+                "공격력 증가 (+20%)",
+                "모든 무기 데미지 +20% 증가"));
+        pool.add(new LevelUpChoice(LevelUpChoice.Type.PASSIVE_SPD, null,
+                "이동 속도 증가",
+                "플레이어 이동 속도가 1만큼 증가"));
+        pool.add(new LevelUpChoice(LevelUpChoice.Type.PASSIVE_HP, null,
+                "최대 체력 증가 (+20)",
+                "최대 체력이 +20 증가하며, 그만큼 체력 즉시 회복"));
+
+        // 무기 3개 (이미 3단계면 후보에서 제외)
+        if (player.canUpgradeWeapon(WeaponType.SWORD)) {
+            pool.add(new LevelUpChoice(LevelUpChoice.Type.WEAPON, WeaponType.SWORD,
+                    "Sword 강화/획득",
+                    "근거리 360도 공격\n레벨마다 데미지↑, 범위↑, 쿨타임↓"));
+        }
+        if (player.canUpgradeWeapon(WeaponType.BOW)) {
+            pool.add(new LevelUpChoice(LevelUpChoice.Type.WEAPON, WeaponType.BOW,
+                    "Bow 강화/획득",
+                    "중거리 투사체\n레벨마다 데미지↑, 화살 개수↑, 관통 수↑, 속도↑"));
+        }
+        if (player.canUpgradeWeapon(WeaponType.STAFF)) {
+            pool.add(new LevelUpChoice(LevelUpChoice.Type.WEAPON, WeaponType.STAFF,
+                    "Staff 강화/획득",
+                    "먼 거리 폭발 마법\n레벨마다 데미지↑, 폭발 반경↑, 쿨타임↓"));
+        }
+
+        Collections.shuffle(pool, rand);
+
+        for (int i = 0; i < levelUpChoices.length; i++) {
+            levelUpChoices[i] = (i < pool.size()) ? pool.get(i) : null;
+        }
+    }
+
+    /** idx 번 선택지를 적용하고 진행 재개. 빈 선택지면 false */
+    public boolean applyLevelUpChoice(int idx) {
+        if (!levelUpPending) return false;
+        LevelUpChoice choice = levelUpChoices[idx];
+        if (choice == null) return false;
+
+        switch (choice.type) {
+            case PASSIVE_ATK:
+                player.upgradeAttack();
+                break;
+            case PASSIVE_SPD:
+                player.upgradeSpeed();
+                break;
+            case PASSIVE_HP:
+                player.upgradeMaxHp();
+                break;
+            case WEAPON:
+                player.addOrUpgradeWeapon(choice.weaponType);
+                break;
+        }
+
+        levelUpPending = false;
+        return true;
+    }
+
+    public boolean isLevelUpPending()          { return levelUpPending; }
+    public LevelUpChoice getLevelUpChoice(int i) { return levelUpChoices[i]; }
+    public int getLevelUpChoiceCount()         { return levelUpChoices.length; }
+
+    // ----------------------------------------------------
+    // 상태 getter (렌더 스냅샷 / 헤드리스 실행용)
+    // ----------------------------------------------------
+    public Player getPlayer()             { return player; }
+    public MonsterStore getMonsters()     { return monsters; }
+    public SpatialGrid getMonsterGrid()   { return monsterGrid; }
+    public FlowField getFlowField()       { return flowField; }
+    public CrowdSeparation getSeparation() { return separation; }
+    public PopulationManager getPopulation() { return population; }
+    public WaveDirector getWaves()        { return waves; }
+
+    /** 전투 이벤트 큐 (subscribe 하면 틱 끝마다 이번 틱 이벤트를 묶음으로 받는다) */
+    public EventQueue getEvents()         { return events; }
+    public CombatStats getCombatStats()   { return stats; }
+
+    /** 시뮬레이션 구간별 시간 (update 를 부르는 스레드에서 기록) */
+    public FrameProfiler getProfiler()    { return profiler; }
+
+    public Bag<ArrowProjectile> getArrows()       { return arrows; }
+    public Bag<FireballProjectile> getFireballs() { return fireballs; }
+    public Bag<ExpOrb> getExpOrbs()               { return expOrbs; }
+    public Bag<DamageText> getDamageTexts()       { return damageTexts; }
+
+    public long getSeed()        { return seed; }
+    /** 마지막 틱에 읽은 입력 비트 (PlayerInput.UP 등) */
+    public int getInputBits()    { return inputBits; }
+
+    public boolean isGameOver()  { return gameOver; }
+    public int getKillCount()    { return killCount; }
+    public long getTickCount()   { return tickCount; }
+}
@@ -0,0 +1,62 @@
+package game.util;
+
+import java.util.Arrays;
+
+/**
+ * 순서 없는 가변 배열 (엔티티 목록용)
+ * - removeAt(i) 는 마지막 원소를 i 자리로 옮겨서 O(1)
+ * - 그래서 순회하면서 지울 때는 지운 자리를 다시 봐야 한다 (i++ 하지 않음)
+ *
+ *   for (int i = 0; i < bag.size(); ) {
+ *       if (dead(bag.get(i))) bag.removeAt(i);
+ *       else i++;
+ *   }
+ */
+public class Bag<T> {
+
+    private Object[] data;
+    private int size;
+
+    public Bag() {
+        this(16);
+    }
+
+    public Bag(int capacity) {
+        data = new Object[Math.max(1, capacity)];
+    }
+
+    public void add(T item) {
+        if (size == data.length) {
+            data = Arrays.copyOf(data, size * 2);
+        }
+        data[size++] = item;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int i) {
+        return (T) data[i];
+    }
+
+    /** i 번째를 지우고 그 자리에 마지막 원소를 넣는다. 지운 원소를 리턴 */
+    @SuppressWarnings("unchecked")
+    public T removeAt(int i) {
+        T removed = (T) data[i];
+        int last = --size;
+        data[i] = data[last];
+        data[last] = null;
+        return removed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(data, 0, size, null);
+        size = 0;
+    }
+}
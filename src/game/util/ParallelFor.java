@@ -0,0 +1,63 @@
+package game.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * [0, n) 을 chunk 크기 구간으로 나눠 돌리기
+ * - 구간 경계는 chunk 크기로만 정해진다 (스레드 수와 무관)
+ *   → 구간마다 따로 모은 결과를 구간 번호 순서로 합치면 1 스레드든 N 스레드든 같은 결과
+ * - pool 이 null 이거나 구간이 하나뿐이면 부른 스레드에서 순서대로 돌린다
+ * - body 는 자기 구간 밖을 쓰면 안 된다 (읽기는 자유, 공유 상태 쓰기는 돌린 뒤에 순서대로)
+ */
+public final class ParallelFor {
+
+    /** 구간 하나 처리 (chunk = 구간 번호, [from, to)) */
+    public interface Body {
+        void run(int chunk, int from, int to);
+    }
+
+    private ParallelFor() {}
+
+    /** n 개를 chunk 크기로 나눈 구간 수 */
+    public static int chunkCount(int n, int chunk) {
+        return (n + chunk - 1) / chunk;
+    }
+
+    public static void run(ForkJoinPool pool, int n, int chunk, Body body) {
+        int chunks = chunkCount(n, chunk);
+        if (pool == null || chunks <= 1) {
+            for (int c = 0; c < chunks; c++) {
+                body.run(c, c * chunk, Math.min(n, (c + 1) * chunk));
+            }
+            return;
+        }
+        pool.invoke(new Split(body, n, chunk, 0, chunks));
+    }
+
+    // 구간 번호 [lo, hi) 를 반씩 나누다가 하나 남으면 실행
+    private static final class Split extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Body body;
+        private final int n, chunk, lo, hi;
+
+        Split(Body body, int n, int chunk, int lo, int hi) {
+            this.body = body;
+            this.n = n;
+            this.chunk = chunk;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                body.run(lo, lo * chunk, Math.min(n, (lo + 1) * chunk));
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new Split(body, n, chunk, lo, mid), new Split(body, n, chunk, mid, hi));
+        }
+    }
+}
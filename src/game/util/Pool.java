@@ -0,0 +1,56 @@
+package game.util;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * 단순 객체 풀 (단일 스레드 전용)
+ * - acquire() : 남은 객체가 있으면 재사용, 없으면 새로 만든다
+ * - release() : reset() 후 보관 (maxSize 를 넘으면 그냥 버림)
+ * - 게임 루프처럼 같은 종류의 객체가 계속 생겼다 사라지는 곳에서 GC 부담을 없애는 용도
+ */
+public class Pool<T extends Poolable> {
+
+    private final Supplier<T> factory;
+    private final int maxSize;
+
+    private Object[] free;
+    private int freeCount = 0;
+
+    // 통계 (새로 만든 수)
+    private int created = 0;
+
+    public Pool(Supplier<T> factory, int maxSize) {
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.free = new Object[Math.min(maxSize, 64)];
+    }
+
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if (freeCount > 0) {
+            T obj = (T) free[--freeCount];
+            free[freeCount] = null;
+            return obj;
+        }
+        created++;
+        return factory.get();
+    }
+
+    public void release(T obj) {
+        obj.reset();
+        if (freeCount < maxSize) {
+            push(obj);
+        }
+    }
+
+    private void push(T obj) {
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, Math.min(maxSize, free.length * 2));
+        }
+        free[freeCount++] = obj;
+    }
+
+    public int getFreeCount() { return freeCount; }
+    public int getCreatedCount() { return created; }
+}
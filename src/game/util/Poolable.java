@@ -0,0 +1,11 @@
+package game.util;
+
+/**
+ * Pool 에 넣을 수 있는 객체
+ * - release 될 때 reset() 으로 참조/상태를 비우고, 꺼낸 쪽이 init(...) 으로 다시 채운다
+ */
+public interface Poolable {
+
+    /** 풀로 돌아갈 때 상태 초기화 (다른 객체 참조는 여기서 끊는다) */
+    void reset();
+}
@@ -0,0 +1,134 @@
+package game.world;
+
+import java.util.concurrent.ForkJoinPool;
+
+import game.util.ParallelFor;
+
+/**
+ * 몬스터끼리 밀어내기 (boids 의 separation 만)
+ * - 몬스터마다 격자에서 가까운 이웃을 최대 MAX_NEIGHBORS 마리까지만 보고,
+ *   겹친 만큼 반대쪽으로 밀어낼 양(틱당 최대 MAX_PUSH px)을 구한다
+ * - 계산은 위치를 읽기만 하고 자기 슬롯 결과만 쓰므로 구간별로 나눠 병렬로 돌려도 결과가 같다
+ * - 몬스터가 많을 때(PARALLEL_MIN 이상)만 풀에서 CHUNK 단위로 나눠 돌린다 (풀이 없으면 한 스레드)
+ * - 틱당 BUDGET 마리까지만 계산 : 넘으면 슬롯을 stride 개 조로 나눠 틱마다 한 조씩 (조 = 슬롯 % stride)
+ * - 격자는 마지막 rebuild 시점의 위치 기준 → 그 뒤로 몬스터가 움직이기 전에 부를 것
+ */
+public class CrowdSeparation {
+
+    public static final int RADIUS = 24;          // 중심 거리가 이보다 가까우면 밀어냄 (몸 30px, 살짝 겹침은 허용)
+    public static final int MAX_NEIGHBORS = 8;    // 몬스터당 보는 이웃 수 상한
+    public static final int MAX_PUSH = 2;         // 틱당 최대 밀림 (축별 px, 조를 나누면 평균)
+    private static final float STRENGTH = 1f / 8; // 겹친 정도 → 밀림 px
+
+    public static final int BUDGET = 12288;       // 틱당 계산하는 몬스터 수 상한
+
+    private static final int CHUNK = 2048;
+    private static final int PARALLEL_MIN = 8192;
+
+    private final MonsterStore store;
+    private final SpatialGrid grid;
+
+    // 슬롯별 결과 (compute 후 0 ~ size-1 유효)
+    private int[] pushX = new int[256];
+    private int[] pushY = new int[256];
+
+    // 구간별 이웃 버퍼 (구간 번호로 나눠 쓴다)
+    private int[][] neighborBufs = new int[0][];
+
+    private ForkJoinPool pool;
+    private final ParallelFor.Body body = this::computeRange;
+
+    // 이번 틱 조 나누기 (compute 에서 정함)
+    private int stride = 1, phase = 0;
+
+    public CrowdSeparation(MonsterStore store, SpatialGrid grid) {
+        this.store = store;
+        this.grid = grid;
+    }
+
+    /** 계산에 쓸 풀 (null 이면 몬스터 수와 상관없이 한 스레드) */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * 슬롯마다 밀어낼 양 계산 (이번 틱 조가 아닌 슬롯은 0). 결과가 유효한 슬롯 수(= size)를 리턴
+     * - tick : 몇 번째 조를 계산할지 (보통 World 틱 번호)
+     */
+    public int compute(long tick) {
+        int n = store.size();
+        if (pushX.length < n) {
+            pushX = new int[n * 2];
+            pushY = new int[n * 2];
+        }
+
+        stride = Math.max(1, (n + BUDGET - 1) / BUDGET);
+        phase = (int) Math.floorMod(tick, (long) stride);
+
+        int chunks = ParallelFor.chunkCount(n, CHUNK);
+        if (neighborBufs.length < chunks) {
+            int[][] grown = new int[chunks][];
+            for (int c = 0; c < chunks; c++) {
+                grown[c] = c < neighborBufs.length ? neighborBufs[c] : new int[MAX_NEIGHBORS];
+            }
+            neighborBufs = grown;
+        }
+
+        ParallelFor.run(n / stride >= PARALLEL_MIN ? pool : null, n, CHUNK, body);
+        return n;
+    }
+
+    /** 이번 틱 몇 개 조로 나눴는지 (1 = 전부 계산) */
+    public int getStride() {
+        return stride;
+    }
+
+    public int pushX(int s) { return pushX[s]; }
+    public int pushY(int s) { return pushY[s]; }
+
+    // 구간 [from, to) 슬롯 계산 (자기 슬롯 결과만 쓴다)
+    private void computeRange(int chunk, int from, int to) {
+        int[] buf = neighborBufs[chunk];
+        int[] hps = store.hp;
+        float r = RADIUS;
+
+        for (int s = from; s < to; s++) {
+            pushX[s] = 0;
+            pushY[s] = 0;
+            if (hps[s] <= 0 || s % stride != phase) continue;
+
+            int found = grid.neighbors(s, RADIUS, MAX_NEIGHBORS, buf);
+            if (found == 0) continue;
+
+            int cx = store.centerX(s), cy = store.centerY(s);
+            float fx = 0, fy = 0;
+            for (int k = 0; k < found; k++) {
+                int o = buf[k];
+                int dx = cx - store.centerX(o);
+                int dy = cy - store.centerY(o);
+                if (dx == 0 && dy == 0) {
+                    // 완전히 같은 자리 : 두 슬롯 번호로 8방향 중 하나를 골라 서로 반대쪽으로
+                    int lo = Math.min(s, o), hi = Math.max(s, o);
+                    int dir = ((lo * 0x9E3779B1) ^ (hi * 0x85EBCA6B)) >>> 29;
+                    int sign = (s == lo) ? 1 : -1;
+                    fx += sign * FlowField.DIR_X[dir] * r;
+                    fy += sign * FlowField.DIR_Y[dir] * r;
+                    continue;
+                }
+                float d = (float) Math.sqrt(dx * dx + dy * dy);
+                float w = (r - d) / d;        // 가까울수록 세게
+                fx += dx * w;
+                fy += dy * w;
+            }
+
+            // 조를 나눴으면 그만큼 덜 자주 밀리니 한 번에 stride 배
+            int limit = MAX_PUSH * stride;
+            pushX[s] = clamp(Math.round(fx * STRENGTH * stride), limit);
+            pushY[s] = clamp(Math.round(fy * STRENGTH * stride), limit);
+        }
+    }
+
+    private static int clamp(int v, int limit) {
+        return Math.max(-limit, Math.min(limit, v));
+    }
+}
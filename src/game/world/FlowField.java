@@ -0,0 +1,219 @@
+package game.world;
+
+import java.util.Arrays;
+
+import game.util.IntList;
+
+/**
+ * 몬스터 길찾기용 흐름장(flow field)
+ * - 플레이어 주변 고정 크기 창(칸 cols × rows)에서 플레이어 칸까지의 거리를 BFS 로 한 번 구하고,
+ *   칸마다 "어느 이웃으로 가면 가까워지는지" 방향 하나를 적어 둔다
+ * - 몬스터는 자기 칸 방향만 읽으면 됨 (O(1)) → 몬스터 수와 무관하게 틱당 한 번
+ * - 플레이어 칸이 바뀌었거나 장애물이 바뀐 틱에만 다시 만든다
+ * - 장애물은 월드 사각형, 칸에 조금이라도 걸치면 막힌 칸
+ * - 창 밖 / 막혀서 못 가는 칸은 NONE → 부르는 쪽에서 직선 추적
+ */
+public class FlowField {
+
+    // 방향 번호 → 한 칸 이동량 (0 ~ 7 = 8방향)
+    public static final int[] DIR_X = { 1, 1, 0, -1, -1, -1, 0, 1 };
+    public static final int[] DIR_Y = { 0, 1, 1, 1, 0, -1, -1, -1 };
+
+    public static final byte NONE = -1;   // 방향 없음 (창 밖 / 도달 불가)
+    public static final byte GOAL = 8;    // 플레이어 칸 (직선 추적)
+
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    private final int cellSize;
+    private final int cols, rows;
+
+    // 창 왼쪽 위 칸 좌표 (월드 칸 단위) + 목표(플레이어) 칸
+    private int originCx, originCy;
+    private int goalCx = Integer.MIN_VALUE, goalCy = Integer.MIN_VALUE;
+
+    // 칸별 데이터 (index = row * cols + col)
+    private final int[] dist;
+    private final byte[] dir;
+    private final boolean[] blocked;
+    private final int[] queue;
+
+    // 장애물 사각형 (x, y, w, h 순서로 4개씩)
+    private final IntList obstacles = new IntList();
+    private boolean dirty = true;
+
+    private int rebuildCount = 0;
+
+    public FlowField(int cellSize, int cols, int rows) {
+        this.cellSize = cellSize;
+        this.cols = cols;
+        this.rows = rows;
+        int n = cols * rows;
+        dist    = new int[n];
+        dir     = new byte[n];
+        blocked = new boolean[n];
+        queue   = new int[n];
+        Arrays.fill(dir, NONE);
+    }
+
+    // ----------------------------------------------------
+    // 장애물
+    // ----------------------------------------------------
+
+    /** 월드 사각형 장애물 추가 (다음 update 에서 반영) */
+    public void addObstacle(int x, int y, int w, int h) {
+        obstacles.add(x);
+        obstacles.add(y);
+        obstacles.add(w);
+        obstacles.add(h);
+        dirty = true;
+    }
+
+    public void clearObstacles() {
+        obstacles.clear();
+        dirty = true;
+    }
+
+    public boolean hasObstacles() {
+        return !obstacles.isEmpty();
+    }
+
+    public int getObstacleCount() {
+        return obstacles.size() / 4;
+    }
+
+    /** 장애물 i 의 x, y, w, h (그리기/디버그용) */
+    public int obstacleX(int i) { return obstacles.get(i * 4); }
+    public int obstacleY(int i) { return obstacles.get(i * 4 + 1); }
+    public int obstacleW(int i) { return obstacles.get(i * 4 + 2); }
+    public int obstacleH(int i) { return obstacles.get(i * 4 + 3); }
+
+    /** 월드 좌표 (x, y)가 막힌 칸인지 (창 밖은 항상 false) */
+    public boolean isBlocked(int x, int y) {
+        int c = Math.floorDiv(x, cellSize) - originCx;
+        int r = Math.floorDiv(y, cellSize) - originCy;
+        if (c < 0 || r < 0 || c >= cols || r >= rows) return false;
+        return blocked[r * cols + c];
+    }
+
+    // ----------------------------------------------------
+    // 갱신 (틱마다, 몬스터 이동 전)
+    // ----------------------------------------------------
+
+    /** 목표 지점(플레이어 중심)으로 흐름장 갱신. 칸이 그대로고 장애물도 그대로면 아무것도 안 함 */
+    public void update(int targetX, int targetY) {
+        int gcx = Math.floorDiv(targetX, cellSize);
+        int gcy = Math.floorDiv(targetY, cellSize);
+        if (!dirty && gcx == goalCx && gcy == goalCy) return;
+
+        goalCx = gcx;
+        goalCy = gcy;
+        originCx = gcx - cols / 2;
+        originCy = gcy - rows / 2;
+        dirty = false;
+        rebuildCount++;
+
+        rasterizeObstacles();
+        integrate();
+        buildDirections();
+    }
+
+    /** 다음 update 에서 무조건 다시 만들기 (판 재시작 등) */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    public int getRebuildCount() {
+        return rebuildCount;
+    }
+
+    // 장애물 → 창 안 막힌 칸
+    private void rasterizeObstacles() {
+        Arrays.fill(blocked, false);
+        for (int i = 0; i + 3 < obstacles.size(); i += 4) {
+            int ox = obstacles.get(i), oy = obstacles.get(i + 1);
+            int ow = obstacles.get(i + 2), oh = obstacles.get(i + 3);
+            if (ow <= 0 || oh <= 0) continue;
+
+            int c0 = Math.max(0, Math.floorDiv(ox, cellSize) - originCx);
+            int r0 = Math.max(0, Math.floorDiv(oy, cellSize) - originCy);
+            int c1 = Math.min(cols - 1, Math.floorDiv(ox + ow - 1, cellSize) - originCx);
+            int r1 = Math.min(rows - 1, Math.floorDiv(oy + oh - 1, cellSize) - originCy);
+            if (c0 > c1 || r0 > r1) continue;   // 창 밖 장애물
+            for (int r = r0; r <= r1; r++) {
+                Arrays.fill(blocked, r * cols + c0, r * cols + c1 + 1, true);
+            }
+        }
+    }
+
+    // 목표 칸에서 BFS (상하좌우, 한 칸 = 거리 1)
+    private void integrate() {
+        Arrays.fill(dist, UNREACHED);
+
+        int goal = (goalCy - originCy) * cols + (goalCx - originCx);
+        if (blocked[goal]) return;   // 플레이어가 장애물 안 → 전부 직선 추적
+
+        int head = 0, tail = 0;
+        dist[goal] = 0;
+        queue[tail++] = goal;
+
+        while (head < tail) {
+            int cur = queue[head++];
+            int c = cur % cols, r = cur / cols;
+            int nd = dist[cur] + 1;
+
+            if (c > 0)        tail = visit(cur - 1, nd, tail);
+            if (c < cols - 1) tail = visit(cur + 1, nd, tail);
+            if (r > 0)        tail = visit(cur - cols, nd, tail);
+            if (r < rows - 1) tail = visit(cur + cols, nd, tail);
+        }
+    }
+
+    private int visit(int idx, int nd, int tail) {
+        if (blocked[idx] || dist[idx] != UNREACHED) return tail;
+        dist[idx] = nd;
+        queue[tail++] = idx;
+        return tail;
+    }
+
+    // 칸마다 거리가 가장 작은 이웃 방향 (대각선은 양 옆 칸이 둘 다 뚫려 있을 때만 = 모서리 안 긁기)
+    private void buildDirections() {
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int idx = r * cols + c;
+                int d = dist[idx];
+                if (d == UNREACHED) { dir[idx] = NONE; continue; }
+                if (d == 0)         { dir[idx] = GOAL; continue; }
+
+                int best = NONE;
+                int bestDist = d;
+                for (int k = 0; k < 8; k++) {
+                    int nc = c + DIR_X[k], nr = r + DIR_Y[k];
+                    if (nc < 0 || nr < 0 || nc >= cols || nr >= rows) continue;
+                    int nd = dist[nr * cols + nc];
+                    if (nd >= bestDist) continue;
+                    if ((k & 1) == 1 && (dist[r * cols + nc] == UNREACHED
+                                      || dist[nr * cols + c] == UNREACHED)) continue;
+                    best = k;
+                    bestDist = nd;
+                }
+                dir[idx] = (byte) best;
+            }
+        }
+    }
+
+    // ----------------------------------------------------
+    // 조회 (몬스터마다 O(1))
+    // ----------------------------------------------------
+
+    /** 월드 좌표 (x, y)가 속한 칸의 방향 번호 (0~7, GOAL, NONE) */
+    public int directionAt(int x, int y) {
+        int c = Math.floorDiv(x, cellSize) - originCx;
+        int r = Math.floorDiv(y, cellSize) - originCy;
+        if (c < 0 || r < 0 || c >= cols || r >= rows) return NONE;
+        return dir[r * cols + c];
+    }
+
+    public int getCellSize() { return cellSize; }
+    public int getCols()     { return cols; }
+    public int getRows()     { return rows; }
+}
@@ -0,0 +1,173 @@
+package game.world;
+
+import java.util.Arrays;
+
+import game.entity.monster.Monster;
+import game.entity.monster.MonsterType;
+
+/**
+ * 몬스터 저장소 (구조체 배열, SoA)
+ * - 좌표/체력/종류를 몬스터 객체 대신 나란한 배열에 보관
+ * - 속도/크기/접촉 데미지/이미지는 종류(MonsterType)에 한 벌만 있고 슬롯은 종류 번호(byte)만 든다
+ * - 슬롯 0 ~ size()-1 이 항상 채워져 있고, 삭제는 마지막 슬롯과 바꿔서 채운다(swap-remove)
+ * - 배열은 핫 루프에서 바로 읽고 쓰라고 공개, 추가/삭제는 반드시 메서드로
+ * - 살아 있음 = hp > 0 (죽은 몬스터는 다음 틱 몬스터 처리 단계에서 제거)
+ * - 슬롯 번호는 삭제 때 바뀌므로 틱을 넘어 같은 몬스터를 가리킬 때는 id 를 쓴다
+ */
+public class MonsterStore {
+
+    // ===== 슬롯별 데이터 =====
+    public int[] x;
+    public int[] y;
+    public int[] hp;
+    public int[] maxHp;     // 웨이브 체력 배율이 들어간 값 (종류 기본값과 다를 수 있음)
+    public byte[] type;     // MonsterType 번호
+    public int[] id;        // 몬스터 고유 번호 (슬롯이 옮겨져도 그대로, 1 부터)
+
+    // 데미지 숫자 합치기 : 아직 안 띄운 누적 데미지 / 처음 맞은 틱
+    public int[] pendingDamage;
+    public int[] pendingSince;
+
+    // 기존 코드용 뷰 객체 (필요할 때만 만든다, 슬롯 이동 시 같이 이동)
+    private Monster[] views;
+
+    private int size = 0;
+
+    // id 발급기 : 한 판 동안 다시 쓰지 않는다 (clear 때만 처음부터)
+    private int nextId = 1;
+
+    public MonsterStore() {
+        this(256);
+    }
+
+    public MonsterStore(int capacity) {
+        capacity = Math.max(16, capacity);
+        x     = new int[capacity];
+        y     = new int[capacity];
+        hp    = new int[capacity];
+        maxHp = new int[capacity];
+        type  = new byte[capacity];
+        id    = new int[capacity];
+        pendingDamage = new int[capacity];
+        pendingSince  = new int[capacity];
+        views = new Monster[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // ----------------------------------------------------
+    // 추가 / 삭제
+    // ----------------------------------------------------
+
+    /** 새 몬스터를 추가하고 슬롯 번호를 리턴 (체력은 종류 기본값) */
+    public int add(int worldX, int worldY, int typeId) {
+        return add(worldX, worldY, typeId, MonsterType.get(typeId).maxHp);
+    }
+
+    /** 체력을 정해서 추가 (웨이브 배율). 한꺼번에 많이 넣을 땐 먼저 ensureCapacity */
+    public int add(int worldX, int worldY, int typeId, int hitPoints) {
+        ensureCapacity(size + 1);
+
+        int s = size++;
+        x[s]     = worldX;
+        y[s]     = worldY;
+        maxHp[s] = hitPoints;
+        hp[s]    = hitPoints;
+        type[s]  = (byte) typeId;
+        id[s]    = nextId++;
+        pendingDamage[s] = 0;
+        pendingSince[s]  = 0;
+        views[s] = null;
+        return s;
+    }
+
+    /** 슬롯 삭제 : 마지막 슬롯을 이 자리로 옮긴다 (순서는 유지되지 않음) */
+    public void removeAt(int s) {
+        Monster removed = views[s];
+        if (removed != null) removed.detach();
+
+        int last = --size;
+        if (s != last) {
+            x[s]     = x[last];
+            y[s]     = y[last];
+            hp[s]    = hp[last];
+            maxHp[s] = maxHp[last];
+            type[s]  = type[last];
+            id[s]    = id[last];
+            pendingDamage[s] = pendingDamage[last];
+            pendingSince[s]  = pendingSince[last];
+
+            Monster moved = views[last];
+            views[s] = moved;
+            if (moved != null) moved.moveTo(s);
+        }
+        views[last] = null;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            if (views[i] != null) {
+                views[i].detach();
+                views[i] = null;
+            }
+        }
+        size = 0;
+        nextId = 1;
+    }
+
+    public void ensureCapacity(int need) {
+        if (need <= x.length) return;
+        int cap = x.length;
+        while (cap < need) cap *= 2;
+
+        x     = Arrays.copyOf(x, cap);
+        y     = Arrays.copyOf(y, cap);
+        hp    = Arrays.copyOf(hp, cap);
+        maxHp = Arrays.copyOf(maxHp, cap);
+        type  = Arrays.copyOf(type, cap);
+        id    = Arrays.copyOf(id, cap);
+        pendingDamage = Arrays.copyOf(pendingDamage, cap);
+        pendingSince  = Arrays.copyOf(pendingSince, cap);
+        views = Arrays.copyOf(views, cap);
+    }
+
+    // ----------------------------------------------------
+    // 전투
+    // ----------------------------------------------------
+    public boolean isAlive(int s) {
+        return hp[s] > 0;
+    }
+
+    public void takeDamage(int s, int damage) {
+        if (hp[s] <= 0) return;
+        hp[s] -= damage;
+        if (hp[s] < 0) hp[s] = 0;
+    }
+
+    /** 맞은 데미지를 숫자로 띄우기 전에 모아 두기 (tick : 지금 틱) */
+    public void addPendingDamage(int s, int damage, int tick) {
+        if (pendingDamage[s] == 0) pendingSince[s] = tick;
+        pendingDamage[s] += damage;
+    }
+
+    public MonsterType typeOf(int s) { return MonsterType.get(type[s]); }
+
+    public int centerX(int s) { return x[s] + MonsterType.get(type[s]).halfW; }
+    public int centerY(int s) { return y[s] + MonsterType.get(type[s]).halfH; }
+
+    // ----------------------------------------------------
+    // 뷰
+    // ----------------------------------------------------
+
+    /** 슬롯의 Monster 뷰 (같은 몬스터면 항상 같은 객체) */
+    public Monster view(int s) {
+        Monster m = views[s];
+        if (m == null) {
+            m = new Monster(this, s);
+            views[s] = m;
+        }
+        return m;
+    }
+}
@@ -0,0 +1,157 @@
+package game.world;
+
+import java.util.Random;
+
+import game.entity.ExpOrb;
+import game.entity.monster.MonsterType;
+import game.util.Bag;
+import game.util.Pool;
+
+/**
+ * 몬스터 수 관리 (오래 하면 떨어져 나간 몬스터가 끝없이 쌓이는 것 방지)
+ * - budget : 살아 있는 몬스터 상한. 넘는 만큼 새 스폰을 건너뛴다 (allowSpawn)
+ * - CHECK_INTERVAL 틱마다 플레이어에서 despawnDistance 보다 먼 몬스터를 찾아서
+ *   스폰 고리(SpawnRing)로 옮긴다 (체력/종류/번호는 그대로)
+ *   → 상한을 넘은 상태면 옮기지 않고 지운다
+ * - 경험치 구슬도 같은 주기로 orbBudget 을 넘으면 먼 것부터 하나로 합친다 (updateOrbs)
+ *   → 합친 구슬은 그 무리에서 플레이어와 가장 가까운 자리에, 경험치는 합계 그대로
+ * - 위치 뽑기는 World 난수만 써서 리플레이/스레드 수와 상관없이 같은 결과
+ * - 스폰 단계에서 부를 것 (이번 틱 전투 이벤트가 슬롯 번호를 들고 있기 전)
+ */
+public class PopulationManager {
+
+    public static final int DEFAULT_BUDGET = 300;
+    public static final int DEFAULT_DESPAWN_DISTANCE = 1500;   // px (화면 대각선의 약 1.5 배)
+    public static final int CHECK_INTERVAL = 30;               // 틱 (0.5초)
+    public static final int DEFAULT_ORB_BUDGET = 400;
+
+    private static final int RELOCATE_TRIES = 8;
+    // 구슬 합치기 반경 : despawnDistance 에서 시작해 상한 안으로 들 때까지 3/4 씩 줄인다 (흡수 반경까지)
+    // → 그 안의 구슬은 플레이어에게 끌려가 곧 먹히므로 상한이 지켜진다
+    private static final int MIN_ORB_MERGE_DISTANCE = (int) ExpOrb.ATTRACT_RADIUS;
+
+    private int budget = DEFAULT_BUDGET;
+    private int despawnDistance = DEFAULT_DESPAWN_DISTANCE;   // 0 이하면 옮기기/지우기 안 함
+    private int orbBudget = DEFAULT_ORB_BUDGET;               // 0 이하면 구슬 합치기 안 함
+
+    // 통계 (reset 전까지 누적)
+    private long relocated = 0;
+    private long despawned = 0;
+    private long skippedSpawns = 0;
+    private int peakAlive = 0;
+    private long mergedOrbs = 0;   // 다른 구슬에 합쳐져 사라진 수
+    private int peakOrbs = 0;
+
+    private final int[] ringPoint = new int[2];
+
+    public void setBudget(int budget)       { this.budget = Math.max(0, budget); }
+    public int getBudget()                  { return budget; }
+    public void setDespawnDistance(int d)   { this.despawnDistance = d; }
+    public int getDespawnDistance()         { return despawnDistance; }
+    public void setOrbBudget(int budget)    { this.orbBudget = budget; }
+    public int getOrbBudget()               { return orbBudget; }
+
+    public long getRelocated()     { return relocated; }
+    public long getDespawned()     { return despawned; }
+    public long getSkippedSpawns() { return skippedSpawns; }
+    public int getPeakAlive()      { return peakAlive; }
+    public long getMergedOrbs()    { return mergedOrbs; }
+    public int getPeakOrbs()       { return peakOrbs; }
+
+    public void reset() {
+        relocated = 0;
+        despawned = 0;
+        skippedSpawns = 0;
+        peakAlive = 0;
+        mergedOrbs = 0;
+        peakOrbs = 0;
+    }
+
+    /** want 마리 중 지금 스폰해도 되는 수 (상한에 걸린 나머지는 건너뛴 수로) */
+    public int allowSpawn(MonsterStore ms, int want) {
+        int allowed = Math.max(0, Math.min(want, budget - ms.size()));
+        skippedSpawns += want - allowed;
+        return allowed;
+    }
+
+    /** 스폰 직후 한 번 (peak 기록 + CHECK_INTERVAL 틱마다 먼 몬스터 정리) */
+    public void update(MonsterStore ms, FlowField flow, Random rand, int px, int py, long tick) {
+        if (ms.size() > peakAlive) peakAlive = ms.size();
+        if (despawnDistance <= 0 || tick % CHECK_INTERVAL != 0) return;
+
+        long far2 = (long) despawnDistance * despawnDistance;
+        // 뒤에서부터 : removeAt 이 마지막 슬롯을 당겨 와도 그 슬롯은 이미 본 것
+        for (int s = ms.size() - 1; s >= 0; s--) {
+            // 죽은 몬스터는 다음 몬스터 처리 단계에서 처치 이벤트(킬/구슬)와 함께 빠진다
+            if (ms.hp[s] <= 0) continue;
+            long dx = ms.centerX(s) - px, dy = ms.centerY(s) - py;
+            if (dx * dx + dy * dy <= far2) continue;
+
+            if (ms.size() > budget || !relocate(ms, s, flow, rand, px, py)) {
+                ms.removeAt(s);
+                despawned++;
+            } else {
+                relocated++;
+            }
+        }
+    }
+
+    /** 구슬 처리 뒤 한 번 (peak 기록 + CHECK_INTERVAL 틱마다 상한 넘은 구슬 합치기, 합쳐진 구슬은 pool 로) */
+    public void updateOrbs(Bag<ExpOrb> orbs, Pool<ExpOrb> pool, int px, int py, long tick) {
+        if (orbs.size() > peakOrbs) peakOrbs = orbs.size();
+        if (orbBudget <= 0 || tick % CHECK_INTERVAL != 0) return;
+
+        int distance = despawnDistance > 0 ? despawnDistance : DEFAULT_DESPAWN_DISTANCE;
+        while (orbs.size() > orbBudget) {
+            mergeOrbsBeyond(orbs, pool, px, py, distance);
+            if (distance <= MIN_ORB_MERGE_DISTANCE) break;
+            distance = Math.max(MIN_ORB_MERGE_DISTANCE, distance * 3 / 4);
+        }
+    }
+
+    // distance 보다 먼 구슬을 그중 가장 가까운 하나에 합친다
+    private void mergeOrbsBeyond(Bag<ExpOrb> orbs, Pool<ExpOrb> pool, int px, int py, int distance) {
+        double far2 = (double) distance * distance;
+        ExpOrb keep = null;
+        double keep2 = Double.MAX_VALUE;
+        for (int i = 0; i < orbs.size(); i++) {
+            ExpOrb orb = orbs.get(i);
+            double d2 = dist2(orb, px, py);
+            if (d2 > far2 && d2 < keep2) {
+                keep = orb;
+                keep2 = d2;
+            }
+        }
+        if (keep == null) return;
+
+        // 뒤에서부터 : removeAt 이 마지막 구슬을 당겨 와도 그 구슬은 이미 본 것
+        for (int i = orbs.size() - 1; i >= 0; i--) {
+            ExpOrb orb = orbs.get(i);
+            if (orb == keep || dist2(orb, px, py) <= far2) continue;
+            keep.addValue(orb.getValue());
+            orbs.removeAt(i);
+            pool.release(orb);
+            mergedOrbs++;
+        }
+    }
+
+    private static double dist2(ExpOrb orb, int px, int py) {
+        double dx = orb.getX() - px, dy = orb.getY() - py;
+        return dx * dx + dy * dy;
+    }
+
+    // 스폰 고리 위 빈 곳으로 (장애물만 나오면 false)
+    private boolean relocate(MonsterStore ms, int s, FlowField flow, Random rand, int px, int py) {
+        for (int tries = 0; tries < RELOCATE_TRIES; tries++) {
+            int depth = rand.nextInt(SpawnRing.DEPTH);
+            SpawnRing.point(px, py, depth, rand.nextInt(SpawnRing.perimeter(depth)), ringPoint);
+            if (flow.isBlocked(ringPoint[0], ringPoint[1])) continue;
+
+            MonsterType t = ms.typeOf(s);
+            ms.x[s] = ringPoint[0] - t.halfW;
+            ms.y[s] = ringPoint[1] - t.halfH;
+            return true;
+        }
+        return false;
+    }
+}
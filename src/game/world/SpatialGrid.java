@@ -0,0 +1,312 @@
+package game.world;
+
+import java.util.Arrays;
+
+import game.combat.Collision;
+import game.entity.monster.MonsterType;
+import game.util.IntList;
+
+/**
+ * 몬스터 검색용 균일 격자(공간 해시)
+ * - 매 틱 rebuild() 로 다시 채우고, 무기/투사체는 이 격자로만 몬스터를 찾는다
+ * - 몬스터는 좌상단 좌표가 속한 칸에 들어간다 (질의 시 몬스터 크기만큼 범위를 넓혀서 검사)
+ * - 결과는 MonsterStore 슬롯 번호 (다음 rebuild 전까지만 유효)
+ */
+public class SpatialGrid {
+
+    private final MonsterStore store;
+    private final int cellSize;
+
+    // ===== 칸 해시 테이블 (오픈 어드레싱, stamp 로 한 번에 비우기) =====
+    private long[] cellKeys;
+    private int[] cellHeads;
+    private int[] cellStamps;
+    private int stamp = 1;
+    private int mask;
+
+    // ===== 칸마다 연결 리스트 (배열 인덱스로 연결) =====
+    private int[] items = new int[256];
+    private int[] next = new int[256];
+    private int[] itemX = new int[256];   // rebuild 시점 중심 좌표 복사 (neighbors 에서 슬롯을 안 거치고 거리 검사)
+    private int[] itemY = new int[256];
+    private int count = 0;
+
+    // 몬스터 종류 전체에서 가로/세로 중 큰 값 (질의 범위 확장용)
+    private final int maxExtent = MonsterType.MAX_EXTENT;
+
+    // kNearest 용 재사용 버퍼
+    private long[] kBestDist = new long[4];
+    private int[] kBest = new int[4];
+
+    public SpatialGrid(MonsterStore store, int cellSize) {
+        this.store = store;
+        this.cellSize = cellSize;
+        allocTable(1024);
+    }
+
+    private void allocTable(int capacity) {
+        cellKeys   = new long[capacity];
+        cellHeads  = new int[capacity];
+        cellStamps = new int[capacity];
+        mask = capacity - 1;
+        stamp = 1;
+    }
+
+    // ----------------------------------------------------
+    // 구성
+    // ----------------------------------------------------
+    public void clear() {
+        count = 0;
+        stamp++;
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(cellStamps, 0);
+            stamp = 1;
+        }
+    }
+
+    /** 살아 있는 몬스터만 모아서 격자를 새로 만든다 (틱마다 1번) */
+    public void rebuild() {
+        int n = store.size();
+
+        // 칸 수가 몬스터 수를 넘을 수 없으니 테이블은 2배 이상으로 유지
+        int need = Math.max(1024, Integer.highestOneBit(Math.max(1, n) * 2) << 1);
+        if (need > cellKeys.length) {
+            allocTable(need);
+        }
+        if (n > items.length) {
+            items = new int[n * 2];
+            next  = new int[n * 2];
+            itemX = new int[n * 2];
+            itemY = new int[n * 2];
+        }
+        clear();
+
+        int[] xs = store.x, ys = store.y, hps = store.hp;
+        for (int s = 0; s < n; s++) {
+            if (hps[s] <= 0) continue;
+
+            int cell = findSlot(cellOf(xs[s]), cellOf(ys[s]), true);
+            items[count] = s;
+            itemX[count] = store.centerX(s);
+            itemY[count] = store.centerY(s);
+            next[count]  = cellHeads[cell];
+            cellHeads[cell] = count;
+            count++;
+        }
+    }
+
+    public MonsterStore getStore() {
+        return store;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    // ----------------------------------------------------
+    // 질의 (결과는 슬롯 번호)
+    // ----------------------------------------------------
+
+    /** 사각형(x, y, w, h)과 겹치는 살아 있는 몬스터 슬롯을 out 에 추가 */
+    public void queryRect(int x, int y, int w, int h, IntList out) {
+        int minCx = cellOf(x - maxExtent), maxCx = cellOf(x + w);
+        int minCy = cellOf(y - maxExtent), maxCy = cellOf(y + h);
+        int[] xs = store.x, ys = store.y, hps = store.hp;
+
+        for (int cy = minCy; cy <= maxCy; cy++) {
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                int cell = findSlot(cx, cy, false);
+                if (cell < 0) continue;
+
+                for (int i = cellHeads[cell]; i >= 0; i = next[i]) {
+                    int s = items[i];
+                    if (hps[s] <= 0) continue;
+                    MonsterType t = MonsterType.get(store.type[s]);
+                    if (Collision.intersects(x, y, w, h, xs[s], ys[s], t.width, t.height)) {
+                        out.add(s);
+                    }
+                }
+            }
+        }
+    }
+
+    /** 중심이 (cx, cy)에서 radius 이내인 살아 있는 몬스터 슬롯을 out 에 추가 */
+    public void queryRadius(int cx, int cy, int radius, IntList out) {
+        int minCx = cellOf(cx - radius - maxExtent), maxCx = cellOf(cx + radius);
+        int minCy = cellOf(cy - radius - maxExtent), maxCy = cellOf(cy + radius);
+        int[] hps = store.hp;
+
+        for (int gy = minCy; gy <= maxCy; gy++) {
+            for (int gx = minCx; gx <= maxCx; gx++) {
+                int cell = findSlot(gx, gy, false);
+                if (cell < 0) continue;
+
+                for (int i = cellHeads[cell]; i >= 0; i = next[i]) {
+                    int s = items[i];
+                    if (hps[s] <= 0) continue;
+                    if (Collision.pointInCircle(store.centerX(s), store.centerY(s), cx, cy, radius)) {
+                        out.add(s);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 슬롯 s 와 중심 거리가 radius 미만인 다른 살아 있는 몬스터를 최대 max 마리 out 에 담고 개수 리턴
+     * - max 마리를 찾으면 바로 멈춘다 (빽빽한 곳에서도 몬스터당 비용이 일정)
+     * - 격자를 읽기만 하므로 rebuild 사이에는 여러 스레드에서 동시에 불러도 된다 (out 은 스레드마다 따로)
+     */
+    public int neighbors(int s, int radius, int max, int[] out) {
+        int sx = store.centerX(s), sy = store.centerY(s);
+        int ox = cellOf(store.x[s]), oy = cellOf(store.y[s]);
+
+        // 자기 칸부터 (빽빽하면 여기서 max 가 다 찬다)
+        int found = scanCell(ox, oy, s, sx, sy, radius, max, out, 0);
+
+        // 칸은 좌상단 기준 : 중심이 radius 안이면 좌상단은 왼쪽/위로 최대 크기 절반만큼 더 나가 있다
+        int minCx = cellOf(sx - radius - maxExtent / 2), maxCx = cellOf(sx + radius);
+        int minCy = cellOf(sy - radius - maxExtent / 2), maxCy = cellOf(sy + radius);
+        for (int gy = minCy; gy <= maxCy && found < max; gy++) {
+            for (int gx = minCx; gx <= maxCx && found < max; gx++) {
+                if (gx == ox && gy == oy) continue;
+                found = scanCell(gx, gy, s, sx, sy, radius, max, out, found);
+            }
+        }
+        return found;
+    }
+
+    private int scanCell(int gx, int gy, int s, int sx, int sy,
+                         int radius, int max, int[] out, int found) {
+        int cell = findSlot(gx, gy, false);
+        if (cell < 0) return found;
+
+        int[] hps = store.hp;
+        long r2 = (long) radius * radius;
+        for (int i = cellHeads[cell]; i >= 0 && found < max; i = next[i]) {
+            long dx = itemX[i] - sx, dy = itemY[i] - sy;
+            if (dx * dx + dy * dy >= r2) continue;
+            int o = items[i];
+            if (o == s || hps[o] <= 0) continue;
+            out[found++] = o;
+        }
+        return found;
+    }
+
+    /**
+     * (cx, cy)에서 중심이 가장 가까운 몬스터 슬롯 (maxDist 밖이면 -1)
+     * - 가까운 칸부터 고리 모양으로 넓혀 가다가 더 가까운 후보가 나올 수 없으면 멈춘다
+     */
+    public int nearest(int cx, int cy, int maxDist) {
+        long maxDist2 = (long) maxDist * maxDist;
+        int best = -1;
+        long bestDist2 = Long.MAX_VALUE;
+        int[] hps = store.hp;
+
+        int ox = cellOf(cx), oy = cellOf(cy);
+        int maxRing = (maxDist + maxExtent) / cellSize + 1;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int gy = oy - ring; gy <= oy + ring; gy++) {
+                boolean edgeRow = (gy == oy - ring || gy == oy + ring);
+                int step = edgeRow ? 1 : ring * 2;
+                for (int gx = ox - ring; gx <= ox + ring; gx += Math.max(1, step)) {
+                    int cell = findSlot(gx, gy, false);
+                    if (cell < 0) continue;
+
+                    for (int i = cellHeads[cell]; i >= 0; i = next[i]) {
+                        int s = items[i];
+                        if (hps[s] <= 0) continue;
+                        long dx = store.centerX(s) - cx;
+                        long dy = store.centerY(s) - cy;
+                        long d2 = dx * dx + dy * dy;
+                        if (d2 < bestDist2 && d2 <= maxDist2) {
+                            bestDist2 = d2;
+                            best = s;
+                        }
+                    }
+                }
+            }
+
+            // 다음 고리부터는 최소 이 거리 이상 떨어져 있음
+            long bound = (long) ring * cellSize - maxExtent;
+            if (bound > 0 && best >= 0 && bound * bound >= bestDist2) break;
+        }
+        return best;
+    }
+
+    /**
+     * (cx, cy)에서 가까운 순서로 최대 k 마리의 슬롯을 out 에 추가하고 추가한 수를 리턴
+     * - k 는 작은 값(화살 수 등)을 가정한 삽입 정렬
+     */
+    public int kNearest(int cx, int cy, int k, int maxDist, IntList out) {
+        if (k <= 0) return 0;
+        if (kBestDist.length < k) {
+            kBestDist = new long[k];
+            kBest = new int[k];
+        }
+
+        long maxDist2 = (long) maxDist * maxDist;
+        int found = 0;
+        int minCx = cellOf(cx - maxDist - maxExtent), maxCx = cellOf(cx + maxDist);
+        int minCy = cellOf(cy - maxDist - maxExtent), maxCy = cellOf(cy + maxDist);
+        int[] hps = store.hp;
+
+        for (int gy = minCy; gy <= maxCy; gy++) {
+            for (int gx = minCx; gx <= maxCx; gx++) {
+                int cell = findSlot(gx, gy, false);
+                if (cell < 0) continue;
+
+                for (int i = cellHeads[cell]; i >= 0; i = next[i]) {
+                    int s = items[i];
+                    if (hps[s] <= 0) continue;
+                    long dx = store.centerX(s) - cx;
+                    long dy = store.centerY(s) - cy;
+                    long d2 = dx * dx + dy * dy;
+                    if (d2 > maxDist2) continue;
+                    if (found == k && d2 >= kBestDist[k - 1]) continue;
+
+                    int pos = (found < k) ? found++ : k - 1;
+                    while (pos > 0 && kBestDist[pos - 1] > d2) {
+                        kBestDist[pos] = kBestDist[pos - 1];
+                        kBest[pos] = kBest[pos - 1];
+                        pos--;
+                    }
+                    kBestDist[pos] = d2;
+                    kBest[pos] = s;
+                }
+            }
+        }
+
+        for (int i = 0; i < found; i++) {
+            out.add(kBest[i]);
+        }
+        return found;
+    }
+
+    // ----------------------------------------------------
+    // 내부 : 칸 좌표 / 해시
+    // ----------------------------------------------------
+    private int cellOf(int v) {
+        return Math.floorDiv(v, cellSize);
+    }
+
+    /** 칸 (cx, cy)의 테이블 위치. create 가 false 이고 칸이 비어 있으면 -1 */
+    private int findSlot(int cx, int cy, boolean create) {
+        long key = ((long) cx << 32) | (cy & 0xffffffffL);
+        long h = key * 0x9E3779B97F4A7C15L;
+        int idx = (int) (h ^ (h >>> 32)) & mask;
+
+        while (true) {
+            if (cellStamps[idx] != stamp) {
+                if (!create) return -1;
+                cellStamps[idx] = stamp;
+                cellKeys[idx]   = key;
+                cellHeads[idx]  = -1;
+                return idx;
+            }
+            if (cellKeys[idx] == key) return idx;
+            idx = (idx + 1) & mask;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package game.world;
+
+/**
+ * 스폰 고리 : 플레이어 중심 기준 화면(800×600) 바로 바깥 사각 테두리
+ * - 테두리 둘레를 0 ~ perimeter(depth) 로 펴서 위치 하나를 정수 하나로 고른다 (위 → 오른쪽 → 아래 → 왼쪽)
+ * - 정수 연산만 써서 리플레이/스레드 수와 상관없이 같은 위치
+ */
+public final class SpawnRing {
+
+    public static final int HALF_W = 400;
+    public static final int HALF_H = 300;
+    public static final int MARGIN = 40;    // 화면 끝에서 이만큼 바깥부터
+    public static final int DEPTH  = 160;   // 고리 두께
+
+    private SpawnRing() {}
+
+    /** 바깥쪽으로 depth 만큼 들어간 테두리의 둘레 길이 */
+    public static int perimeter(int depth) {
+        return 4 * (HALF_W + HALF_H + 2 * (MARGIN + depth));
+    }
+
+    /**
+     * 테두리 위 t 번째 점 (중심 cx, cy 기준 월드 좌표). t 는 perimeter(depth) 로 나눈 나머지를 쓴다
+     * out[0] = x, out[1] = y
+     */
+    public static void point(int cx, int cy, int depth, int t, int[] out) {
+        int hw = HALF_W + MARGIN + depth;
+        int hh = HALF_H + MARGIN + depth;
+        t = Math.floorMod(t, 4 * (hw + hh));
+
+        int px, py;
+        if (t < 2 * hw) {
+            px = -hw + t;      py = -hh;
+        } else if ((t -= 2 * hw) < 2 * hh) {
+            px = hw;           py = -hh + t;
+        } else if ((t -= 2 * hh) < 2 * hw) {
+            px = hw - t;       py = hh;
+        } else {
+            t -= 2 * hw;
+            px = -hw;          py = hh - t;
+        }
+        out[0] = cx + px;
+        out[1] = cy + py;
+    }
+}
@@ -0,0 +1,214 @@
+package game.world;
+
+import java.util.Random;
+
+import game.entity.monster.MonsterType;
+
+import game.profile.jfr.WaveSpawnEvent;
+import game.sim.World;
+
+/**
+ * 웨이브 표(WaveTable)대로 몬스터를 내보낸다 (World 스폰 단계에서 틱마다 한 번)
+ * - 웨이브가 나올 차례가 되면 그 수만큼 대기열(pending)에 쌓는다
+ * - 초당 스폰 예산(spawnBudget 마리/초)을 틱마다 채우고, 예산만큼만 대기열에서 꺼내 한 번에 만든다
+ *   → 큰 무리는 한 틱에 예산(최대 1초 분량)만큼, 나머지는 다음 틱들로 밀린다
+ * - 살아 있는 수 상한(PopulationManager)에 걸린 만큼은 버린다 (대기열에 남기지 않음)
+ *   → 두 한도 중 상한이 먼저 걸린다 (기본 상한 300 마리 < 예산 2000 마리/초).
+ *     예산은 상한을 올렸을 때(-Dgame.monsterBudget, 벤치마크/소크) 큰 무리를 여러 틱에 나누는 안전장치
+ * - 한 번에 만들 땐 MonsterStore 를 먼저 그 크기로 늘려 두고 넣는다 (중간에 배열 복사 없이)
+ * - 위치/종류는 World 난수만 써서 리플레이/스레드 수와 상관없이 같은 결과
+ */
+public class WaveDirector {
+
+    public static final int DEFAULT_SPAWN_BUDGET = 2000;   // 마리/초
+
+    private static final int MAX_PENDING_SECONDS = 5;      // 웨이브 하나 대기열 상한 (예산 × 초)
+    private static final int SCATTER_HALF_W = 800;         // scatter : 플레이어 주변 ±800 × ±600
+    private static final int SCATTER_HALF_H = 600;
+    private static final int SCATTER_TRIES = 8;
+    private static final int RING_SPACING = 24;            // ring : 한 바퀴에서 몬스터 간격, 넘치면 바깥 바퀴로
+    private static final int ELITE_SPREAD = 40;            // elite : 무리 중심에서 ±px
+
+    private WaveTable table;
+    private long[] nextTick;
+    private int[] pending;
+
+    private int spawnBudget = DEFAULT_SPAWN_BUDGET;
+    private long tokens;   // 1/60 마리 단위 (틱마다 spawnBudget 씩, 최대 1초 분량)
+
+    // 통계 (reset 전까지 누적)
+    private long spawned = 0;
+    private long wavesFired = 0;
+    private long blocked = 0;      // 장애물 위라 못 놓은 수
+    private long dropped = 0;      // 대기열 상한을 넘어 버린 수
+    private int lastBurst = 0;     // 마지막 틱에 만든 수
+    private int peakBurst = 0;
+
+    private final int[] point = new int[2];
+
+    public WaveDirector(WaveTable table) {
+        setTable(table);
+    }
+
+    public void setTable(WaveTable table) {
+        this.table = table;
+        this.nextTick = new long[table.size()];
+        this.pending = new int[table.size()];
+        reset();
+    }
+
+    public WaveTable getTable() { return table; }
+
+    public void setSpawnBudget(int perSecond) { this.spawnBudget = Math.max(1, perSecond); }
+    public int getSpawnBudget()               { return spawnBudget; }
+
+    public long getSpawned()    { return spawned; }
+    public long getWavesFired() { return wavesFired; }
+    public long getBlocked()    { return blocked; }
+    public long getDropped()    { return dropped; }
+    public int getLastBurst()   { return lastBurst; }
+    public int getPeakBurst()   { return peakBurst; }
+
+    /** 대기열에 남은 수 합 */
+    public int getPending() {
+        int n = 0;
+        for (int p : pending) n += p;
+        return n;
+    }
+
+    /** 표 처음부터 다시 (예산 설정은 그대로) */
+    public void reset() {
+        for (int i = 0; i < table.size(); i++) {
+            nextTick[i] = Math.max(1, table.get(i).startTick);   // 첫 틱 번호는 1
+            pending[i] = 0;
+        }
+        tokens = (long) spawnBudget * World.TICKS_PER_SECOND;
+        spawned = 0;
+        wavesFired = 0;
+        blocked = 0;
+        dropped = 0;
+        lastBurst = 0;
+        peakBurst = 0;
+    }
+
+    // ----------------------------------------------------
+    // 틱마다
+    // ----------------------------------------------------
+
+    /** 이번 틱 스폰. 만든 수를 돌려준다 (px, py : 플레이어 중심) */
+    public int update(long tick, MonsterStore ms, PopulationManager population,
+                      FlowField flow, Random rand, int px, int py) {
+        long cap = (long) spawnBudget * World.TICKS_PER_SECOND;
+        tokens = Math.min(cap, tokens + spawnBudget);
+
+        // 차례가 된 웨이브 → 대기열
+        int maxPending = spawnBudget * MAX_PENDING_SECONDS;
+        for (int i = 0; i < nextTick.length; i++) {
+            WaveTable.Wave w = table.get(i);
+            if (tick < nextTick[i] || !w.activeAt(tick)) continue;
+            nextTick[i] += w.intervalTicks;
+            wavesFired++;
+
+            int add = w.countAt(tick);
+            int room = Math.max(0, maxPending - pending[i]);
+            if (add > room) {
+                dropped += add - room;
+                add = room;
+            }
+            pending[i] += add;
+        }
+
+        // 예산만큼 꺼내서 한 번에
+        int burst = 0;
+        for (int i = 0; i < pending.length && tokens >= World.TICKS_PER_SECOND; i++) {
+            if (pending[i] == 0) continue;
+            int n = (int) Math.min(pending[i], tokens / World.TICKS_PER_SECOND);
+            pending[i] -= n;
+
+            int allowed = population.allowSpawn(ms, n);
+            if (allowed == 0) continue;
+            tokens -= (long) allowed * World.TICKS_PER_SECOND;
+
+            int made = spawnWave(table.get(i), allowed, tick, ms, flow, rand, px, py);
+            burst += made;
+
+            WaveSpawnEvent ev = new WaveSpawnEvent();
+            if (ev.shouldCommit()) {
+                ev.tick = tick;
+                ev.spawned = made;
+                ev.monsterType = table.get(i).type;
+                ev.shape = table.get(i).shape.name();
+                ev.alive = ms.size();
+                ev.commit();
+            }
+        }
+
+        spawned += burst;
+        lastBurst = burst;
+        if (burst > peakBurst) peakBurst = burst;
+        return burst;
+    }
+
+    private int spawnWave(WaveTable.Wave w, int n, long tick, MonsterStore ms,
+                          FlowField flow, Random rand, int px, int py) {
+        ms.ensureCapacity(ms.size() + n);   // 무리 전체를 넣을 자리를 한 번에
+
+        int before = ms.size();
+        switch (w.shape) {
+            case SCATTER:
+                for (int k = 0; k < n; k++) {
+                    int x = 0, y = 0;
+                    boolean ok = false;
+                    for (int tries = 0; tries < SCATTER_TRIES && !ok; tries++) {
+                        x = px + rand.nextInt(SCATTER_HALF_W * 2) - SCATTER_HALF_W;
+                        y = py + rand.nextInt(SCATTER_HALF_H * 2) - SCATTER_HALF_H;
+                        ok = !flow.isBlocked(x, y);
+                    }
+                    place(ms, w, ok, x, y, tick, rand);
+                }
+                break;
+
+            case RING: {
+                // 고르게 빙 둘러서, 한 바퀴가 차면 RING_SPACING 만큼 바깥 바퀴로
+                int depth = rand.nextInt(SpawnRing.DEPTH);
+                int offset = rand.nextInt(SpawnRing.perimeter(depth));
+                int k = 0;
+                while (k < n) {
+                    int perimeter = SpawnRing.perimeter(depth);
+                    int lap = Math.min(n - k, Math.max(1, perimeter / RING_SPACING));
+                    for (int j = 0; j < lap; j++) {
+                        SpawnRing.point(px, py, depth, offset + (int) ((long) j * perimeter / lap), point);
+                        place(ms, w, !flow.isBlocked(point[0], point[1]), point[0], point[1], tick, rand);
+                    }
+                    k += lap;
+                    depth += RING_SPACING;
+                }
+                break;
+            }
+
+            case ELITE: {
+                int depth = rand.nextInt(SpawnRing.DEPTH);
+                SpawnRing.point(px, py, depth, rand.nextInt(SpawnRing.perimeter(depth)), point);
+                int cx = point[0], cy = point[1];
+                for (int k = 0; k < n; k++) {
+                    int x = cx + rand.nextInt(ELITE_SPREAD * 2 + 1) - ELITE_SPREAD;
+                    int y = cy + rand.nextInt(ELITE_SPREAD * 2 + 1) - ELITE_SPREAD;
+                    place(ms, w, !flow.isBlocked(x, y), x, y, tick, rand);
+                }
+                break;
+            }
+        }
+        return ms.size() - before;
+    }
+
+    // (cx, cy) 중심에 한 마리 (장애물 위면 건너뜀)
+    private void place(MonsterStore ms, WaveTable.Wave w, boolean ok, int cx, int cy, long tick, Random rand) {
+        int type = (w.type == WaveTable.ANY_TYPE) ? rand.nextInt(WaveTable.typeCount()) : w.type;
+        if (!ok) {
+            blocked++;
+            return;
+        }
+        MonsterType t = MonsterType.get(type);
+        ms.add(cx - t.halfW, cy - t.halfH, type, w.hpAt(type, tick));
+    }
+}
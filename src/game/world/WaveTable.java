@@ -0,0 +1,171 @@
+package game.world;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import game.entity.monster.MonsterType;
+import game.sim.World;
+
+/**
+ * 웨이브 표 (텍스트 한 줄 = 웨이브 하나, # 뒤는 주석)
+ *
+ *   시작  끝  모양  간격  수  분당+수  종류  체력배율  분당+체력
+ *   120   -   ring  30    16  4        bat   1.0       0.1
+ *
+ * - 시작/끝/간격 : 초 (끝이 - 면 끝없이). 시작 초부터 간격마다 한 번씩 나온다
+ * - 모양 : scatter (플레이어 주변 아무 데나) / ring (화면 바깥 고리를 빙 둘러) / elite (고리 한 곳에 뭉쳐서)
+ * - 수 : 처음 수 + 분당+수 × (이 웨이브가 시작된 뒤 지난 분)
+ * - 종류 : MonsterType 이름 (bat / mummy / slime ...) / any (웨이브에 나오는 종류 중 마리마다 무작위)
+ * - 체력 : 종류 기본 체력 × 체력배율 × (1 + 분당+체력 × 판 시작 뒤 지난 분)
+ * - 속도/크기/데미지는 종류에 정해져 있다 (MonsterType)
+ * - 기본 표는 같은 패키지의 waves.txt (-Dgame.waves=파일 로 바꿀 수 있다)
+ */
+public final class WaveTable {
+
+    public static final int ANY_TYPE = -1;
+
+    public enum Shape { SCATTER, RING, ELITE }
+
+    /** 웨이브 한 줄 (시간은 틱 단위로 바꿔 둔다) */
+    public static final class Wave {
+        public final int startTick;
+        public final int endTick;          // -1 이면 끝없이
+        public final int intervalTicks;
+        public final Shape shape;
+        public final int count;
+        public final double countPerMinute;
+        public final int type;             // ANY_TYPE 이면 마리마다 무작위
+        public final double hpScale;
+        public final double hpPerMinute;
+
+        Wave(int startTick, int endTick, int intervalTicks, Shape shape, int count, double countPerMinute,
+             int type, double hpScale, double hpPerMinute) {
+            this.startTick = startTick;
+            this.endTick = endTick;
+            this.intervalTicks = intervalTicks;
+            this.shape = shape;
+            this.count = count;
+            this.countPerMinute = countPerMinute;
+            this.type = type;
+            this.hpScale = hpScale;
+            this.hpPerMinute = hpPerMinute;
+        }
+
+        /** tick 에 나올 마리 수 */
+        public int countAt(long tick) {
+            double minutes = (tick - startTick) / (60.0 * World.TICKS_PER_SECOND);
+            return count + (int) (countPerMinute * minutes);
+        }
+
+        /** tick 에 나오는 monsterType 종류 몬스터의 최대 체력 */
+        public int hpAt(int monsterType, long tick) {
+            double minutes = tick / (60.0 * World.TICKS_PER_SECOND);
+            int base = MonsterType.get(monsterType).maxHp;
+            return Math.max(1, (int) Math.round(base * hpScale * (1 + hpPerMinute * minutes)));
+        }
+
+        public boolean activeAt(long tick) {
+            return tick >= startTick && (endTick < 0 || tick < endTick);
+        }
+    }
+
+    private static WaveTable defaults;
+
+    private final Wave[] waves;
+    private final String source;   // 읽은 글 그대로 (리플레이에 같이 저장)
+
+    private WaveTable(Wave[] waves, String source) {
+        this.waves = waves;
+        this.source = source;
+    }
+
+    public int size()          { return waves.length; }
+    public Wave get(int i)     { return waves[i]; }
+    public String getSource()  { return source; }
+
+    // ----------------------------------------------------
+    // 읽기
+    // ----------------------------------------------------
+
+    /** 기본 표 (waves.txt 리소스, 한 번만 읽는다) */
+    public static synchronized WaveTable defaults() {
+        if (defaults == null) {
+            try (InputStream in = WaveTable.class.getResourceAsStream("waves.txt")) {
+                if (in == null) throw new IllegalStateException("waves.txt 리소스가 없음");
+                defaults = parse(new InputStreamReader(in, StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new IllegalStateException("기본 웨이브 표를 읽지 못함", e);
+            }
+        }
+        return defaults;
+    }
+
+    public static WaveTable load(Path file) throws IOException {
+        try (Reader r = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return parse(r);
+        }
+    }
+
+    public static WaveTable parse(Reader reader) throws IOException {
+        BufferedReader br = new BufferedReader(reader);
+        List<Wave> list = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        String line;
+        int lineNo = 0;
+        while ((line = br.readLine()) != null) {
+            lineNo++;
+            text.append(line).append('\n');
+            int hash = line.indexOf('#');
+            if (hash >= 0) line = line.substring(0, hash);
+            line = line.trim();
+            if (line.isEmpty()) continue;
+
+            String[] f = line.split("\\s+");
+            if (f.length != 9) {
+                throw new IOException(lineNo + "번째 줄 : 칸이 9 개여야 함 (" + f.length + " 개)");
+            }
+            try {
+                int start = toTicks(f[0]);
+                int end = f[1].equals("-") ? -1 : toTicks(f[1]);
+                int interval = Math.max(1, toTicks(f[3]));
+                Shape shape = Shape.valueOf(f[2].toUpperCase(Locale.ROOT));
+                list.add(new Wave(start, end, interval, shape,
+                        Integer.parseInt(f[4]), Double.parseDouble(f[5]), typeOf(f[6]),
+                        Double.parseDouble(f[7]), Double.parseDouble(f[8])));
+            } catch (IllegalArgumentException e) {
+                throw new IOException(lineNo + "번째 줄 : " + e.getMessage(), e);
+            }
+        }
+        return new WaveTable(list.toArray(new Wave[0]), text.toString());
+    }
+
+    // 초 (소수 가능) → 틱
+    private static int toTicks(String seconds) {
+        return (int) Math.round(Double.parseDouble(seconds) * World.TICKS_PER_SECOND);
+    }
+
+    private static int typeOf(String s) {
+        if (s.equals("any")) return ANY_TYPE;
+        MonsterType t = MonsterType.byName(s);
+        if (t == null) throw new IllegalArgumentException("모르는 몬스터 종류 : " + s);
+        return t.id;
+    }
+
+    /** any 웨이브에서 뽑는 종류 수 (종류 번호 0 ~ 이 수-1) */
+    public static int typeCount() {
+        return MonsterType.spawnableCount();
+    }
+
+    public static String typeName(int type) {
+        return (type == ANY_TYPE) ? "any" : MonsterType.get(type).name;
+    }
+}